@@ -0,0 +1,255 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.bind.JAXBElement;
+
+/**
+ * Index of the elements and objects of a list of extension content by qualified name and by class.
+ * <p>
+ * An index is built lazily on first lookup and is rebuilt whenever the indexed list is found to have been replaced,
+ * to have changed in size, or to no longer hold the objects - or element values - it held when the index got built.
+ * Checking the list is a pass of reference comparisons. Lookups neither search the list nor allocate memory, and
+ * answer the lists they return from the index itself.</p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+final class AnyIndex
+{
+
+    /**
+     * Entry of qualified names without elements.
+     */
+    private static final Entry EMPTY_ENTRY = new Entry( Collections.emptyList() );
+
+    /**
+     * The current state of the index or {@code null}.
+     */
+    private volatile State state;
+
+    /**
+     * Creates a new {@code AnyIndex} instance.
+     */
+    AnyIndex()
+    {
+        super();
+    }
+
+    /**
+     * Gets the {@code JAXBElement}s of a list matching a namespace URI and local part.
+     *
+     * @param any The list to search.
+     * @param namespaceURI The namespace URI of the {@code JAXBElement}s to return.
+     * @param localPart The local part of the {@code JAXBElement}s to return.
+     *
+     * @return An unmodifiable list of all {@code JAXBElement}s of {@code any} matching {@code namespaceURI} and
+     * {@code localPart} in list order - an empty list if no such elements are found.
+     */
+    List<JAXBElement<?>> getElements( final List<Object> any, final String namespaceURI, final String localPart )
+    {
+        return this.getEntry( any, namespaceURI, localPart ).elements;
+    }
+
+    /**
+     * Gets the {@code JAXBElement}s of a list matching a namespace URI, local part and value class.
+     *
+     * @param any The list to search.
+     * @param namespaceURI The namespace URI of the {@code JAXBElement}s to return.
+     * @param localPart The local part of the {@code JAXBElement}s to return.
+     * @param type The class of the values of the {@code JAXBElement}s to return.
+     *
+     * @return An unmodifiable list of all {@code JAXBElement}s of {@code any} matching {@code namespaceURI},
+     * {@code localPart} and {@code type} in list order - an empty list if no such elements are found.
+     */
+    List<JAXBElement<?>> getElements( final List<Object> any, final String namespaceURI, final String localPart,
+                                      final Class<?> type )
+    {
+        final List<JAXBElement<?>> elements = this.getEntry( any, namespaceURI, localPart ).elementsByType.get( type );
+        return elements != null ? elements : Collections.emptyList();
+    }
+
+    /**
+     * Gets the objects of a list matching a class.
+     * <p>
+     * The values of {@code JAXBElement}s are matched in place of the elements themselves.</p>
+     *
+     * @param any The list to search.
+     * @param clazz The class of the objects to return.
+     *
+     * @return An unmodifiable list of all objects of {@code any} of class {@code clazz} in list order - an empty list
+     * if no such objects are found.
+     */
+    List<Object> getObjects( final List<Object> any, final Class<?> clazz )
+    {
+        final List<Object> objects = this.getState( any ).objects.get( clazz );
+        return objects != null ? objects : Collections.emptyList();
+    }
+
+    private Entry getEntry( final List<Object> any, final String namespaceURI, final String localPart )
+    {
+        final Map<String, Entry> entries = this.getState( any ).entries.get( namespaceURI );
+        final Entry entry = entries != null ? entries.get( localPart ) : null;
+        return entry != null ? entry : EMPTY_ENTRY;
+    }
+
+    private State getState( final List<Object> any )
+    {
+        State current = this.state;
+
+        if ( current == null || !current.isCurrent( any ) )
+        {
+            current = new State( any );
+            this.state = current;
+        }
+
+        return current;
+    }
+
+    private static Object getValue( final Object object )
+    {
+        return object instanceof JAXBElement<?> ? ( (JAXBElement<?>) object ).getValue() : object;
+    }
+
+    private static <K, V> void add( final Map<K, List<V>> map, final K key, final V value )
+    {
+        map.computeIfAbsent( key, k  -> new ArrayList<>( 1 ) ).add( value );
+    }
+
+    private static <K, V> void freeze( final Map<K, List<V>> map )
+    {
+        for ( final Map.Entry<K, List<V>> e : map.entrySet() )
+        {
+            e.setValue( Collections.unmodifiableList( e.getValue() ) );
+        }
+    }
+
+    private static final class Entry
+    {
+
+        private List<JAXBElement<?>> elements;
+
+        private final Map<Class<?>, List<JAXBElement<?>>> elementsByType = new HashMap<>( 2 );
+
+        Entry( final List<JAXBElement<?>> elements )
+        {
+            super();
+            this.elements = elements;
+        }
+
+    }
+
+    private static final class State
+    {
+
+        private final List<Object> any;
+
+        private final Object[] values;
+
+        private final Map<String, Map<String, Entry>> entries = new HashMap<>();
+
+        private final Map<Class<?>, List<Object>> objects = new HashMap<>();
+
+        State( final List<Object> any )
+        {
+            super();
+            this.any = any;
+            this.values = new Object[ any.size() * 2 ];
+
+            for ( int i = 0, s0 = any.size(); i < s0; i++ )
+            {
+                final Object object = any.get( i );
+                final Object value = getValue( object );
+                this.values[2 * i] = object;
+                this.values[2 * i + 1] = value;
+
+                if ( object instanceof JAXBElement<?> )
+                {
+                    final JAXBElement<?> element = (JAXBElement<?>) object;
+                    final Entry entry = this.entries.computeIfAbsent( element.getName().getNamespaceURI(),
+                                                                      k  -> new HashMap<>() ).
+                        computeIfAbsent( element.getName().getLocalPart(), k  -> new Entry( new ArrayList<>( 1 ) ) );
+
+                    entry.elements.add( element );
+
+                    if ( value != null )
+                    {
+                        add( entry.elementsByType, value.getClass(), element );
+                    }
+                }
+
+                if ( value != null )
+                {
+                    add( this.objects, value.getClass(), value );
+                }
+            }
+
+            for ( final Map<String, Entry> e : this.entries.values() )
+            {
+                for ( final Entry entry : e.values() )
+                {
+                    entry.elements = Collections.unmodifiableList( entry.elements );
+                    freeze( entry.elementsByType );
+                }
+            }
+
+            freeze( this.objects );
+        }
+
+        boolean isCurrent( final List<Object> list )
+        {
+            if ( this.any != list || this.values.length != 2 * list.size() )
+            {
+                return false;
+            }
+
+            for ( int i = 0, s0 = list.size(); i < s0; i++ )
+            {
+                final Object object = list.get( i );
+
+                if ( this.values[2 * i] != object || this.values[2 * i + 1] != getValue( object ) )
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+    }
+
+}
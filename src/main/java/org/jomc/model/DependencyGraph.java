@@ -0,0 +1,667 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Graph of the dependencies between the implementations of a list of modules.
+ * <p>
+ * An implementation depends on another implementation, if one of its dependencies - including inherited
+ * dependencies - references a specification the other implementation implements. Dependencies naming an
+ * implementation only reference the implementation of that name. Dependency overrides are not part of the graph.</p>
+ * <p>
+ * Objects of implementations referenced through a specification with a scope are shared by all dependents, whereas
+ * objects of implementations referenced only through specifications without scope are created for each dependent.
+ * Creation plans order the creation of shared objects accordingly.</p>
+ * <p>
+ * A graph is built in one pass over the implementations of the modules and is not updated when the modules
+ * change. Implementations are numbered in the order of the modules and their implementations, and the edges of
+ * the graph are held as arrays of implementation numbers in both directions, so that queries do not consult the
+ * modules again. Graphs are immutable and safe for use by multiple concurrent threads.</p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ *
+ * @see Modules#getDependencyGraph()
+ */
+public final class DependencyGraph
+{
+
+    /**
+     * Empty {@code int} array.
+     */
+    private static final int[] NO_INDICES =
+    {
+    };
+
+    /**
+     * The implementations of the graph by number.
+     */
+    private final List<Implementation> implementations;
+
+    /**
+     * Maps implementation identifiers to implementation numbers.
+     */
+    private final Map<String, Integer> indices;
+
+    /**
+     * Numbers of the implementations each implementation depends on.
+     */
+    private final int[][] dependencies;
+
+    /**
+     * Numbers of the implementations each implementation depends on only through specifications without scope.
+     */
+    private final int[][] unscopedDependencies;
+
+    /**
+     * Numbers of the implementations depending on each implementation.
+     */
+    private final int[][] dependents;
+
+    /**
+     * Maps specification identifiers to the numbers of the implementations with a dependency on the specification.
+     */
+    private final Map<String, int[]> specificationDependents;
+
+    /**
+     * Numbers of the implementations ordered such that dependencies come before their dependents or {@code null}, if
+     * the graph contains cycles.
+     */
+    private final int[] topologicalOrder;
+
+    /**
+     * Creates a new {@code DependencyGraph} instance taking the modules to build the graph of.
+     *
+     * @param modules The modules to build the graph of.
+     *
+     * @throws NullPointerException if {@code modules} is {@code null}.
+     */
+    public DependencyGraph( final Modules modules )
+    {
+        super();
+        Objects.requireNonNull( modules, "modules" );
+
+        final List<Implementation> list = new ArrayList<>();
+        final Map<String, Boolean> scoped = new HashMap<>();
+        this.indices = new HashMap<>();
+
+        for ( int i = 0, s0 = modules.getModule().size(); i < s0; i++ )
+        {
+            final Module m = modules.getModule().get( i );
+
+            if ( m.getSpecifications() != null )
+            {
+                for ( int j = 0, s1 = m.getSpecifications().getSpecification().size(); j < s1; j++ )
+                {
+                    final Specification specification = m.getSpecifications().getSpecification().get( j );
+                    scoped.putIfAbsent( specification.getIdentifier(), specification.getScope() != null );
+                }
+            }
+
+            if ( m.getImplementations() != null )
+            {
+                for ( int j = 0, s1 = m.getImplementations().getImplementation().size(); j < s1; j++ )
+                {
+                    final Implementation implementation = m.getImplementations().getImplementation().get( j );
+
+                    if ( implementation.getIdentifier() != null
+                             && this.indices.putIfAbsent( implementation.getIdentifier(), list.size() ) == null )
+                    {
+                        list.add( implementation );
+                    }
+                }
+            }
+        }
+
+        this.implementations = Collections.unmodifiableList( list );
+
+        // Collecting the specifications and dependencies of an implementation walks its inheritance hierarchy,
+        // which is what makes the graph worth building once. Collect them for all implementations concurrently.
+        final List<Node> nodes;
+
+        try ( final Stream<Implementation> st0 = modules.getExecutionPolicy().stream( list ) )
+        {
+            nodes = st0.map( i  -> new Node( modules, i ) ).collect( Collectors.toList() );
+        }
+
+        final Map<String, List<Integer>> implementers = new HashMap<>();
+
+        for ( int i = 0, s0 = nodes.size(); i < s0; i++ )
+        {
+            for ( final String specification : nodes.get( i ).specifications )
+            {
+                implementers.computeIfAbsent( specification, k  -> new ArrayList<>() ).add( i );
+            }
+        }
+
+        final int size = list.size();
+        final Map<String, BitSet> dependentsBySpecification = new HashMap<>();
+        final int[] dependentCounts = new int[ size ];
+        this.dependencies = new int[ size ][];
+        this.unscopedDependencies = new int[ size ][];
+        this.dependents = new int[ size ][];
+
+        for ( int i = 0; i < size; i++ )
+        {
+            final BitSet targets = new BitSet( size );
+            final BitSet scopedTargets = new BitSet( size );
+
+            for ( final Dependency d : nodes.get( i ).dependencies )
+            {
+                dependentsBySpecification.computeIfAbsent( d.getIdentifier(), k  -> new BitSet( size ) ).set( i );
+                final boolean scope = scoped.getOrDefault( d.getIdentifier(), false );
+
+                for ( final Integer target : implementers.getOrDefault( d.getIdentifier(),
+                                                                        Collections.<Integer>emptyList() ) )
+                {
+                    if ( d.getImplementationName() == null
+                             || d.getImplementationName().equals( list.get( target ).getName() ) )
+                    {
+                        targets.set( target );
+
+                        if ( scope )
+                        {
+                            scopedTargets.set( target );
+                        }
+                    }
+                }
+            }
+
+            this.dependencies[i] = targets.stream().toArray();
+            targets.andNot( scopedTargets );
+            this.unscopedDependencies[i] = targets.stream().toArray();
+
+            for ( final int target : this.dependencies[i] )
+            {
+                dependentCounts[target]++;
+            }
+        }
+
+        for ( int i = 0; i < size; i++ )
+        {
+            this.dependents[i] = dependentCounts[i] > 0 ? new int[ dependentCounts[i] ] : NO_INDICES;
+            dependentCounts[i] = 0;
+        }
+
+        for ( int i = 0; i < size; i++ )
+        {
+            for ( final int target : this.dependencies[i] )
+            {
+                this.dependents[target][dependentCounts[target]++] = i;
+            }
+        }
+
+        this.specificationDependents = new HashMap<>( dependentsBySpecification.size() * 4 / 3 + 1 );
+
+        for ( final Map.Entry<String, BitSet> e : dependentsBySpecification.entrySet() )
+        {
+            this.specificationDependents.put( e.getKey(), e.getValue().stream().toArray() );
+        }
+
+        this.topologicalOrder = this.sort();
+    }
+
+    /**
+     * Gets the implementations of the graph.
+     *
+     * @return An unmodifiable list holding the implementations of the graph in the order of the modules and their
+     * implementations.
+     */
+    public List<Implementation> getImplementations()
+    {
+        return this.implementations;
+    }
+
+    /**
+     * Gets the implementations a given implementation depends on directly.
+     *
+     * @param implementation The identifier of the implementation to get the dependencies of.
+     *
+     * @return An unmodifiable list holding the implementations the implementation identified by
+     * {@code implementation} depends on directly or no value, if no such implementation is found.
+     *
+     * @throws NullPointerException if {@code implementation} is {@code null}.
+     */
+    public Optional<List<Implementation>> getDependencies( final String implementation )
+    {
+        Objects.requireNonNull( implementation, "implementation" );
+        final Integer index = this.indices.get( implementation );
+        return Optional.ofNullable( index != null ? this.getImplementations( this.dependencies[index] ) : null );
+    }
+
+    /**
+     * Gets the implementations depending directly on a given implementation.
+     *
+     * @param implementation The identifier of the implementation to get the dependents of.
+     *
+     * @return An unmodifiable list holding the implementations depending directly on the implementation identified
+     * by {@code implementation} or no value, if no such implementation is found.
+     *
+     * @throws NullPointerException if {@code implementation} is {@code null}.
+     */
+    public Optional<List<Implementation>> getDependents( final String implementation )
+    {
+        Objects.requireNonNull( implementation, "implementation" );
+        final Integer index = this.indices.get( implementation );
+        return Optional.ofNullable( index != null ? this.getImplementations( this.dependents[index] ) : null );
+    }
+
+    /**
+     * Gets the implementations with a dependency on a given specification.
+     *
+     * @param specification The identifier of the specification to get the dependents of.
+     *
+     * @return An unmodifiable list holding the implementations with a dependency on the specification identified by
+     * {@code specification} - an empty list, if no implementation depends on that specification.
+     *
+     * @throws NullPointerException if {@code specification} is {@code null}.
+     */
+    public List<Implementation> getSpecificationDependents( final String specification )
+    {
+        Objects.requireNonNull( specification, "specification" );
+        return this.getImplementations( this.specificationDependents.getOrDefault( specification, NO_INDICES ) );
+    }
+
+    /**
+     * Gets the implementations a given implementation depends on directly or indirectly.
+     *
+     * @param implementation The identifier of the implementation to get the transitive dependencies of.
+     *
+     * @return An unmodifiable list holding the implementations reachable from the implementation identified by
+     * {@code implementation} in breadth-first order or no value, if no such implementation is found. The list holds
+     * the implementation itself only if it depends on itself.
+     *
+     * @throws NullPointerException if {@code implementation} is {@code null}.
+     */
+    public Optional<List<Implementation>> getTransitiveDependencies( final String implementation )
+    {
+        Objects.requireNonNull( implementation, "implementation" );
+        final Integer index = this.indices.get( implementation );
+        return Optional.ofNullable( index != null
+                                        ? this.getImplementations( closure( this.dependencies, index ) )
+                                        : null );
+
+    }
+
+    /**
+     * Gets the implementations depending directly or indirectly on a given implementation.
+     *
+     * @param implementation The identifier of the implementation to get the transitive dependents of.
+     *
+     * @return An unmodifiable list holding the implementations the implementation identified by
+     * {@code implementation} is reachable from in breadth-first order or no value, if no such implementation is
+     * found. The list holds the implementation itself only if it depends on itself.
+     *
+     * @throws NullPointerException if {@code implementation} is {@code null}.
+     */
+    public Optional<List<Implementation>> getTransitiveDependents( final String implementation )
+    {
+        Objects.requireNonNull( implementation, "implementation" );
+        final Integer index = this.indices.get( implementation );
+        return Optional.ofNullable( index != null
+                                        ? this.getImplementations( closure( this.dependents, index ) )
+                                        : null );
+
+    }
+
+    /**
+     * Gets the implementations of the graph ordered such that implementations come after the implementations they
+     * depend on.
+     * <p>
+     * Implementations not depending on each other keep the order of the modules and their implementations.</p>
+     *
+     * @return An unmodifiable list holding the implementations of the graph in topological order or no value, if the
+     * graph contains cycles.
+     */
+    public Optional<List<Implementation>> getTopologicalOrder()
+    {
+        return Optional.ofNullable( this.topologicalOrder != null
+                                        ? this.getImplementations( this.topologicalOrder )
+                                        : null );
+
+    }
+
+    /**
+     * Gets a flag indicating the graph is free of cycles.
+     *
+     * @return {@code true}, if no implementation of the graph depends on itself directly or indirectly;
+     * {@code false}, if the graph contains cycles.
+     */
+    public boolean isAcyclic()
+    {
+        return this.topologicalOrder != null;
+    }
+
+    /**
+     * Gets a plan for creating the objects of given implementations and of the shared objects they depend on.
+     * <p>
+     * The plan groups implementations into layers, each implementation depending only on implementations of
+     * preceding layers, so that the objects of a layer can be created in parallel once the objects of all preceding
+     * layers exist. Implementations referenced through a specification with a scope are part of the plan.
+     * Implementations referenced only through specifications without scope are not, unless given, since their
+     * objects are created along with each dependent. The implementations they depend on are planned as dependencies
+     * of the dependent instead. Dependencies not naming an implementation reference all implementations of the
+     * specification. For specifications of multiplicity {@code One}, this is at most one implementation only for
+     * models validated successfully.</p>
+     * <p>
+     * Implementations of a layer keep the order of the modules and their implementations.</p>
+     *
+     * @param implementations The identifiers of the implementations to plan the creation of. Identifiers not
+     * identifying an implementation of the graph are ignored.
+     *
+     * @return An unmodifiable list holding unmodifiable lists of the implementations of each layer in creation order
+     * or no value, if the planned implementations depend on each other cyclically, including cycles made up only of
+     * implementations referenced through specifications without scope.
+     *
+     * @throws NullPointerException if {@code implementations} is {@code null} or contains {@code null} elements.
+     *
+     * @see Specification#getScope()
+     * @see Specification#getMultiplicity()
+     */
+    public Optional<List<List<Implementation>>> getCreationPlan( final Collection<String> implementations )
+    {
+        Objects.requireNonNull( implementations, "implementations" );
+
+        final int size = this.implementations.size();
+        final int[][] planDependencies = new int[ size ][];
+        final BitSet planned = new BitSet( size );
+        final int[] queue = new int[ size ];
+        int tail = 0;
+
+        for ( final String implementation : implementations )
+        {
+            final Integer index = this.indices.get( Objects.requireNonNull( implementation, "implementations" ) );
+
+            if ( index != null && !planned.get( index ) )
+            {
+                planned.set( index );
+                queue[tail++] = index;
+            }
+        }
+
+        for ( int head = 0; head < tail; head++ )
+        {
+            planDependencies[queue[head]] = this.getScopedDependencies( queue[head] );
+
+            if ( planDependencies[queue[head]] == null )
+            {
+                return Optional.empty();
+            }
+
+            for ( final int dependency : planDependencies[queue[head]] )
+            {
+                if ( !planned.get( dependency ) )
+                {
+                    planned.set( dependency );
+                    queue[tail++] = dependency;
+                }
+            }
+        }
+
+        final int[] remaining = new int[ size ];
+        final int[] counts = new int[ size ];
+        final int[][] planDependents = new int[ size ][];
+
+        for ( int i = planned.nextSetBit( 0 ); i >= 0; i = planned.nextSetBit( i + 1 ) )
+        {
+            remaining[i] = planDependencies[i].length;
+
+            for ( final int dependency : planDependencies[i] )
+            {
+                counts[dependency]++;
+            }
+        }
+
+        for ( int i = planned.nextSetBit( 0 ); i >= 0; i = planned.nextSetBit( i + 1 ) )
+        {
+            planDependents[i] = new int[ counts[i] ];
+            counts[i] = 0;
+        }
+
+        BitSet layer = new BitSet( size );
+
+        for ( int i = planned.nextSetBit( 0 ); i >= 0; i = planned.nextSetBit( i + 1 ) )
+        {
+            for ( final int dependency : planDependencies[i] )
+            {
+                planDependents[dependency][counts[dependency]++] = i;
+            }
+
+            if ( remaining[i] == 0 )
+            {
+                layer.set( i );
+            }
+        }
+
+        final List<List<Implementation>> layers = new ArrayList<>();
+        int layered = 0;
+
+        while ( !layer.isEmpty() )
+        {
+            final int[] members = layer.stream().toArray();
+            layers.add( this.getImplementations( members ) );
+            layered += members.length;
+            layer = new BitSet( size );
+
+            for ( final int member : members )
+            {
+                for ( final int dependent : planDependents[member] )
+                {
+                    if ( --remaining[dependent] == 0 )
+                    {
+                        layer.set( dependent );
+                    }
+                }
+            }
+        }
+
+        return Optional.ofNullable( layered == tail ? Collections.unmodifiableList( layers ) : null );
+    }
+
+    private int[] getScopedDependencies( final int index )
+    {
+        // Objects of implementations referenced without scope are created along with their dependent, so that
+        // their dependencies need to exist before the dependent is created. Reaching an implementation still being
+        // expanded means its object would need to exist before it can be created.
+        final int size = this.implementations.size();
+        final BitSet scopedDependencies = new BitSet( size );
+        final BitSet expanded = new BitSet( size );
+        final BitSet expanding = new BitSet( size );
+        final int[] stack = new int[ size ];
+        final int[] positions = new int[ size ];
+        int top = 0;
+
+        stack[top++] = index;
+        expanded.set( index );
+        expanding.set( index );
+
+        while ( top > 0 )
+        {
+            final int i = stack[top - 1];
+
+            if ( positions[top - 1] < this.dependencies[i].length )
+            {
+                final int dependency = this.dependencies[i][positions[top - 1]++];
+
+                if ( Arrays.binarySearch( this.unscopedDependencies[i], dependency ) < 0 )
+                {
+                    scopedDependencies.set( dependency );
+                }
+                else if ( expanding.get( dependency ) )
+                {
+                    return null;
+                }
+                else if ( !expanded.get( dependency ) )
+                {
+                    expanded.set( dependency );
+                    expanding.set( dependency );
+                    positions[top] = 0;
+                    stack[top++] = dependency;
+                }
+            }
+            else
+            {
+                expanding.clear( i );
+                top--;
+            }
+        }
+
+        return scopedDependencies.stream().toArray();
+    }
+
+    private List<Implementation> getImplementations( final int[] numbers )
+    {
+        final Implementation[] array = new Implementation[ numbers.length ];
+
+        for ( int i = 0; i < numbers.length; i++ )
+        {
+            array[i] = this.implementations.get( numbers[i] );
+        }
+
+        return Collections.unmodifiableList( Arrays.asList( array ) );
+    }
+
+    private int[] sort()
+    {
+        // Kahn's algorithm on the edges from dependencies to dependents, taking implementations whose dependencies
+        // have all been taken in the order they became free of untaken dependencies.
+        final int size = this.implementations.size();
+        final int[] remaining = new int[ size ];
+        final int[] order = new int[ size ];
+        int tail = 0;
+
+        for ( int i = 0; i < size; i++ )
+        {
+            remaining[i] = this.dependencies[i].length;
+
+            if ( remaining[i] == 0 )
+            {
+                order[tail++] = i;
+            }
+        }
+
+        for ( int head = 0; head < tail; head++ )
+        {
+            for ( final int dependent : this.dependents[order[head]] )
+            {
+                if ( --remaining[dependent] == 0 )
+                {
+                    order[tail++] = dependent;
+                }
+            }
+        }
+
+        return tail == size ? order : null;
+    }
+
+    private static int[] closure( final int[][] edges, final int start )
+    {
+        // Breadth-first search using the result as the queue.
+        final BitSet visited = new BitSet( edges.length );
+        final int[] queue = new int[ edges.length ];
+        int tail = 0;
+
+        for ( final int next : edges[start] )
+        {
+            visited.set( next );
+            queue[tail++] = next;
+        }
+
+        for ( int head = 0; head < tail; head++ )
+        {
+            for ( final int next : edges[queue[head]] )
+            {
+                if ( !visited.get( next ) )
+                {
+                    visited.set( next );
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        return Arrays.copyOf( queue, tail );
+    }
+
+    /**
+     * Specifications and dependencies of an implementation collected from the modules.
+     */
+    private static final class Node
+    {
+
+        private final List<String> specifications = new ArrayList<>();
+
+        private final List<Dependency> dependencies = new ArrayList<>();
+
+        Node( final Modules modules, final Implementation implementation )
+        {
+            super();
+
+            final Optional<Specifications> s = modules.getSpecifications( implementation.getIdentifier() );
+
+            if ( s.isPresent() )
+            {
+                for ( int i = 0, s0 = s.get().getSpecification().size(); i < s0; i++ )
+                {
+                    this.specifications.add( s.get().getSpecification().get( i ).getIdentifier() );
+                }
+            }
+
+            final Optional<Dependencies> d = modules.getDependencies( implementation.getIdentifier() );
+
+            if ( d.isPresent() )
+            {
+                for ( int i = 0, s0 = d.get().getDependency().size(); i < s0; i++ )
+                {
+                    if ( d.get().getDependency().get( i ).getIdentifier() != null )
+                    {
+                        this.dependencies.add( d.get().getDependency().get( i ) );
+                    }
+                }
+            }
+        }
+
+    }
+
+}
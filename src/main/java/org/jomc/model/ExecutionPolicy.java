@@ -0,0 +1,229 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+/**
+ * Policy deciding whether to process collections of model objects sequentially or in parallel.
+ * <p>
+ * A policy processes a collection in parallel if the collection holds at least as many elements as given by the
+ * policy's parallel threshold. Collections are always processed sequentially when the calling thread already
+ * executes a fork/join task - for example when querying a model from inside a parallel stream - unless the parallel
+ * threshold is zero.</p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+public final class ExecutionPolicy
+{
+
+    /**
+     * Policy always processing collections sequentially.
+     */
+    public static final ExecutionPolicy SEQUENTIAL = new ExecutionPolicy( Integer.MAX_VALUE );
+
+    /**
+     * Policy always processing collections in parallel.
+     */
+    public static final ExecutionPolicy PARALLEL = new ExecutionPolicy( 0 );
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultParallelThreshold}.
+     *
+     * @see #getDefaultParallelThreshold()
+     */
+    private static final String DEFAULT_PARALLEL_THRESHOLD_PROPERTY_NAME =
+        "org.jomc.model.ExecutionPolicy.defaultParallelThreshold";
+
+    /**
+     * Default value of the parallel threshold.
+     *
+     * @see #getDefaultParallelThreshold()
+     */
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 2048;
+
+    /**
+     * Default parallel threshold.
+     */
+    private static volatile Integer defaultParallelThreshold;
+
+    /**
+     * Default policy.
+     */
+    private static volatile ExecutionPolicy defaultPolicy;
+
+    /**
+     * The minimum number of elements of a collection to process in parallel.
+     */
+    private final int parallelThreshold;
+
+    /**
+     * Creates a new {@code ExecutionPolicy} instance taking a parallel threshold.
+     *
+     * @param parallelThreshold The minimum number of elements of a collection to process in parallel.
+     *
+     * @throws IllegalArgumentException if {@code parallelThreshold} is negative.
+     */
+    public ExecutionPolicy( final int parallelThreshold )
+    {
+        super();
+
+        if ( parallelThreshold < 0 )
+        {
+            throw new IllegalArgumentException( Integer.toString( parallelThreshold ) );
+        }
+
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Gets the default parallel threshold.
+     * <p>
+     * The default parallel threshold is controlled by system property
+     * {@code org.jomc.model.ExecutionPolicy.defaultParallelThreshold} holding the minimum number of elements of a
+     * collection to process in parallel by default. If that property is not set or does not hold a non-negative
+     * integer, the {@code 2048} default is returned.</p>
+     *
+     * @return The default parallel threshold.
+     *
+     * @see #setDefaultParallelThreshold(java.lang.Integer)
+     */
+    public static int getDefaultParallelThreshold()
+    {
+        if ( defaultParallelThreshold == null )
+        {
+            int threshold = DEFAULT_PARALLEL_THRESHOLD;
+
+            try
+            {
+                threshold = Integer.parseInt( System.getProperty( DEFAULT_PARALLEL_THRESHOLD_PROPERTY_NAME,
+                                                                  Integer.toString( DEFAULT_PARALLEL_THRESHOLD ) ) );
+
+            }
+            catch ( final NumberFormatException e )
+            {
+                threshold = DEFAULT_PARALLEL_THRESHOLD;
+            }
+
+            defaultParallelThreshold = threshold >= 0 ? threshold : DEFAULT_PARALLEL_THRESHOLD;
+        }
+
+        return defaultParallelThreshold;
+    }
+
+    /**
+     * Sets the default parallel threshold.
+     *
+     * @param value The new default parallel threshold or {@code null}.
+     *
+     * @throws IllegalArgumentException if {@code value} is negative.
+     *
+     * @see #getDefaultParallelThreshold()
+     */
+    public static void setDefaultParallelThreshold( final Integer value )
+    {
+        if ( value != null && value < 0 )
+        {
+            throw new IllegalArgumentException( value.toString() );
+        }
+
+        defaultParallelThreshold = value;
+        defaultPolicy = null;
+    }
+
+    /**
+     * Gets the default policy.
+     *
+     * @return A policy using the default parallel threshold.
+     *
+     * @see #getDefaultParallelThreshold()
+     */
+    public static ExecutionPolicy getDefault()
+    {
+        ExecutionPolicy policy = defaultPolicy;
+        final int threshold = getDefaultParallelThreshold();
+
+        if ( policy == null || policy.getParallelThreshold() != threshold )
+        {
+            policy = new ExecutionPolicy( threshold );
+            defaultPolicy = policy;
+        }
+
+        return policy;
+    }
+
+    /**
+     * Gets the minimum number of elements of a collection to process in parallel.
+     *
+     * @return The minimum number of elements of a collection to process in parallel.
+     */
+    public int getParallelThreshold()
+    {
+        return this.parallelThreshold;
+    }
+
+    /**
+     * Gets a flag indicating a collection of a given size is to be processed in parallel.
+     *
+     * @param size The number of elements of the collection to process.
+     *
+     * @return {@code true}, if a collection of {@code size} elements is to be processed in parallel; {@code false},
+     * if a collection of {@code size} elements is to be processed sequentially.
+     */
+    public boolean isParallel( final int size )
+    {
+        return size >= this.parallelThreshold && ( this.parallelThreshold == 0 || !ForkJoinTask.inForkJoinPool() );
+    }
+
+    /**
+     * Gets a stream of the elements of a given collection.
+     *
+     * @param <T> The type of the elements of the collection.
+     * @param collection The collection to stream.
+     *
+     * @return A parallel stream of the elements of {@code collection}, if {@code collection} is to be processed in
+     * parallel; a sequential stream of the elements of {@code collection}, if {@code collection} is to be processed
+     * sequentially.
+     *
+     * @throws NullPointerException if {@code collection} is {@code null}.
+     *
+     * @see #isParallel(int)
+     */
+    public <T> Stream<T> stream( final Collection<T> collection )
+    {
+        return this.isParallel( collection.size() ) ? collection.parallelStream() : collection.stream();
+    }
+
+}
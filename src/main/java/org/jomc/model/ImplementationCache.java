@@ -0,0 +1,270 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.jomc.jls.JavaTypeName;
+
+/**
+ * Cache of the specifications and Java type names implemented by the implementations of a list of modules, and of
+ * the implementations of Java classes.
+ * <p>
+ * Values are cached per implementation or class together with a stamp of the list of modules. The stamp holds the
+ * modules, their specifications and implementations, and the identifiers, classes, class declaration flags and
+ * references those are resolved by. The cache is cleared whenever the list of modules is found to no longer match the
+ * stamp, so that changes made in place are picked up just like modules, specifications or implementations added,
+ * removed or replaced. Checking the list is a pass of reference comparisons, neither resolving references nor
+ * allocating memory in proportion to the size of the list.</p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+final class ImplementationCache
+{
+
+    /**
+     * The current state of the cache or {@code null}.
+     */
+    private volatile State state;
+
+    /**
+     * Creates a new {@code ImplementationCache} instance.
+     */
+    ImplementationCache()
+    {
+        super();
+    }
+
+    /**
+     * Gets the state of the cache matching a list of modules.
+     *
+     * @param modules The list of modules to get the state of the cache of.
+     *
+     * @return The state of the cache matching {@code modules}.
+     */
+    State getState( final Modules modules )
+    {
+        State current = this.state;
+
+        if ( current == null || !current.isCurrent( modules ) )
+        {
+            current = new State( modules );
+            this.state = current;
+        }
+
+        return current;
+    }
+
+    /**
+     * Clears the cache.
+     */
+    void clear()
+    {
+        this.state = null;
+    }
+
+    private static boolean stamp( final Modules modules, final Predicate<Object> sink )
+    {
+        boolean accepted = sink.test( modules.getModule() );
+
+        for ( int i = 0, s0 = modules.getModule().size(); accepted && i < s0; i++ )
+        {
+            final Module m = modules.getModule().get( i );
+            accepted = sink.test( m ) && sink.test( m.getSpecifications() ) && sink.test( m.getImplementations() );
+
+            if ( accepted && m.getSpecifications() != null )
+            {
+                final List<Specification> specifications = m.getSpecifications().getSpecification();
+                accepted = sink.test( specifications );
+
+                for ( int j = 0, s1 = specifications.size(); accepted && j < s1; j++ )
+                {
+                    final Specification s = specifications.get( j );
+                    accepted = sink.test( s ) && sink.test( s.getIdentifier() ) && sink.test( s.getClazz() );
+                }
+            }
+
+            if ( accepted && m.getImplementations() != null )
+            {
+                final List<Implementation> implementations = m.getImplementations().getImplementation();
+                accepted = sink.test( implementations );
+
+                for ( int j = 0, s1 = implementations.size(); accepted && j < s1; j++ )
+                {
+                    final Implementation impl = implementations.get( j );
+
+                    // The flag is boxed to one of the canonical Boolean instances and compares by reference as well.
+                    accepted = sink.test( impl ) && sink.test( impl.getIdentifier() ) && sink.test( impl.getClazz() )
+                                   && sink.test( impl.isClassDeclaration() ) && sink.test( impl.getSpecifications() )
+                                   && sink.test( impl.getImplementations() );
+
+                    if ( accepted && impl.getSpecifications() != null )
+                    {
+                        accepted = stamp( impl.getSpecifications().getReference(),
+                                          SpecificationReference::getIdentifier, sink );
+
+                    }
+
+                    if ( accepted && impl.getImplementations() != null )
+                    {
+                        accepted = stamp( impl.getImplementations().getReference(),
+                                          ImplementationReference::getIdentifier, sink );
+
+                    }
+                }
+            }
+        }
+
+        return accepted;
+    }
+
+    private static <T> boolean stamp( final List<T> references, final Function<T, String> identifierFunction,
+                                      final Predicate<Object> sink )
+    {
+        boolean accepted = sink.test( references );
+
+        for ( int i = 0, s0 = references.size(); accepted && i < s0; i++ )
+        {
+            final T reference = references.get( i );
+            accepted = sink.test( reference ) && sink.test( identifierFunction.apply( reference ) );
+        }
+
+        return accepted;
+    }
+
+    /**
+     * State of the cache for one stamp of a list of modules.
+     */
+    static final class State
+    {
+
+        private final Object[] stamp;
+
+        private final ConcurrentMap<String, Specifications> specifications = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<String, List<JavaTypeName>> javaTypeNames = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<String, ClassImplementation> classImplementations = new ConcurrentHashMap<>();
+
+        State( final Modules modules )
+        {
+            super();
+            final List<Object> objects = new ArrayList<>();
+            stamp( modules, objects::add );
+            this.stamp = objects.toArray();
+        }
+
+        /**
+         * Gets the specifications implemented by implementations.
+         *
+         * @return A map of implementation identifiers to the specifications implemented by the implementations.
+         * Values must not be modified.
+         */
+        ConcurrentMap<String, Specifications> getSpecifications()
+        {
+            return this.specifications;
+        }
+
+        /**
+         * Gets the Java type names implemented by implementations.
+         *
+         * @return A map of implementation identifiers to unmodifiable lists of the Java type names implemented by the
+         * implementations.
+         */
+        ConcurrentMap<String, List<JavaTypeName>> getJavaTypeNames()
+        {
+            return this.javaTypeNames;
+        }
+
+        /**
+         * Gets the implementation of a class.
+         *
+         * @param clazz The class to get the implementation of.
+         *
+         * @return The implementation of {@code clazz} or its closest superclass, an absent value, if {@code clazz} is
+         * known not to be implemented by any implementation, or {@code null}, if nothing is cached for {@code clazz}.
+         */
+        Optional<Implementation> getClassImplementation( final Class<?> clazz )
+        {
+            final ClassImplementation cached = this.classImplementations.get( clazz.getName() );
+            return cached != null && cached.clazz.get() == clazz ? cached.implementation : null;
+        }
+
+        /**
+         * Caches the implementation of a class.
+         *
+         * @param clazz The class to cache the implementation of.
+         * @param implementation The implementation of {@code clazz} or its closest superclass or an absent value, if
+         * {@code clazz} is not implemented by any implementation.
+         */
+        void putClassImplementation( final Class<?> clazz, final Optional<Implementation> implementation )
+        {
+            // Keyed by name and referencing the class weakly, so that classes can still be unloaded. A class of the
+            // same name from another class loader replaces the entry.
+            this.classImplementations.put( clazz.getName(), new ClassImplementation( clazz, implementation ) );
+        }
+
+        boolean isCurrent( final Modules modules )
+        {
+            final int[] index = new int[ 1 ];
+            return stamp( modules, o  -> index[0] < this.stamp.length && this.stamp[index[0]++] == o )
+                       && index[0] == this.stamp.length;
+
+        }
+
+    }
+
+    private static final class ClassImplementation
+    {
+
+        private final Reference<Class<?>> clazz;
+
+        private final Optional<Implementation> implementation;
+
+        ClassImplementation( final Class<?> clazz, final Optional<Implementation> implementation )
+        {
+            super();
+            this.clazz = new WeakReference<Class<?>>( clazz );
+            this.implementation = implementation;
+        }
+
+    }
+
+}
@@ -30,9 +30,14 @@
  */
 package org.jomc.model;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -107,9 +112,14 @@ public class InheritanceModel
         private final boolean override;
 
         /**
-         * The path to the node.
+         * The path to the node or {@code null}.
          */
-        private final List<Node<Implementation>> path = new CopyOnWriteArrayList<>();
+        private volatile Path path;
+
+        /**
+         * The path to the node as a list or {@code null}.
+         */
+        private volatile List<Node<Implementation>> pathList;
 
         /**
          * The nodes overridden by the node.
@@ -233,7 +243,15 @@ public class InheritanceModel
          */
         public final List<Node<Implementation>> getPath()
         {
-            return Collections.unmodifiableList( this.path );
+            List<Node<Implementation>> list = this.pathList;
+
+            if ( list == null )
+            {
+                list = Path.toList( this.path );
+                this.pathList = list;
+            }
+
+            return list;
         }
 
         /**
@@ -249,15 +267,494 @@ public class InheritanceModel
         }
 
         /**
-         * Gets the path to the node.
+         * Sets the path to the node.
          *
-         * @return A modifiable list holding path nodes of the node.
+         * @param value The new path to the node or {@code null}.
          *
          * @see #getPath()
          */
-        private List<Node<Implementation>> getModifiablePath()
+        private void setPath( final Path value )
+        {
+            this.path = value;
+            this.pathList = null;
+        }
+
+    }
+
+    /**
+     * Effective members of an implementation.
+     * <p>
+     * Each map holds the effective nodes of the members of one kind by the names, identifiers or qualified names of
+     * the members. The maps hold the same nodes the methods of the model taking a single name return, so that the
+     * complete view of an implementation is available without querying each name separately.</p>
+     *
+     * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+     * @version $JOMC$
+     * @since 2.0
+     *
+     * @see InheritanceModel#getEffectiveMembers(java.lang.String)
+     */
+    public static final class EffectiveMembers
+    {
+
+        /**
+         * The implementation of the members.
+         */
+        private final Implementation implementation;
+
+        /**
+         * Effective dependency nodes by dependency name.
+         */
+        private final Map<String, Set<Node<Dependency>>> dependencies;
+
+        /**
+         * Effective implementation reference nodes by implementation identifier.
+         */
+        private final Map<String, Set<Node<ImplementationReference>>> implementationReferences;
+
+        /**
+         * Effective JAXB element nodes by qualified element name.
+         */
+        private final Map<QName, Set<Node<JAXBElement<?>>>> jaxbElements;
+
+        /**
+         * Effective message nodes by message name.
+         */
+        private final Map<String, Set<Node<Message>>> messages;
+
+        /**
+         * Effective property nodes by property name.
+         */
+        private final Map<String, Set<Node<Property>>> properties;
+
+        /**
+         * Effective specification reference nodes by specification identifier.
+         */
+        private final Map<String, Set<Node<SpecificationReference>>> specificationReferences;
+
+        /**
+         * Effective XML element nodes by qualified element name.
+         */
+        private final Map<QName, Set<Node<Element>>> xmlElements;
+
+        /**
+         * Creates a new {@code EffectiveMembers} instance taking the members of an implementation from a model.
+         *
+         * @param model The model to take the members from.
+         * @param implementation The implementation of the members.
+         */
+        private EffectiveMembers( final InheritanceModel model, final Implementation implementation )
+        {
+            super();
+            final String identifier = implementation.getIdentifier();
+            model.prepareContext( identifier );
+            this.implementation = implementation;
+            this.dependencies = members( map( model.dependencies, identifier ).keySet(),
+                                         effectiveNodes( model.effDependencies, identifier, identifier ) );
+
+            this.implementationReferences = members( map( model.implReferences, identifier ).keySet(),
+                                                     effectiveNodes( model.effImplReferences, identifier,
+                                                                     identifier ) );
+
+            this.jaxbElements = members( map( model.jaxbElements, identifier ).keySet(),
+                                         effectiveNodes( model.effJaxbElements, identifier, identifier ) );
+
+            this.messages = members( map( model.messages, identifier ).keySet(),
+                                     effectiveNodes( model.effMessages, identifier, identifier ) );
+
+            this.properties = members( map( model.properties, identifier ).keySet(),
+                                       effectiveNodes( model.effProperties, identifier, identifier ) );
+
+            this.specificationReferences = members( map( model.specReferences, identifier ).keySet(),
+                                                    effectiveNodes( model.effSpecReferences, identifier,
+                                                                    identifier ) );
+
+            this.xmlElements = members( map( model.xmlElements, identifier ).keySet(),
+                                        effectiveNodes( model.effXmlElements, identifier, identifier ) );
+
+        }
+
+        /**
+         * Gets the implementation of the members.
+         *
+         * @return The implementation of the members.
+         */
+        public Implementation getImplementation()
+        {
+            return this.implementation;
+        }
+
+        /**
+         * Gets the effective dependency nodes of the implementation.
+         *
+         * @return An unmodifiable map holding unmodifiable sets of effective dependency nodes by dependency name.
+         *
+         * @see InheritanceModel#getDependencyNodes(java.lang.String, java.lang.String)
+         */
+        public Map<String, Set<Node<Dependency>>> getDependencies()
+        {
+            return this.dependencies;
+        }
+
+        /**
+         * Gets the effective implementation reference nodes of the implementation.
+         *
+         * @return An unmodifiable map holding unmodifiable sets of effective implementation reference nodes by
+         * implementation identifier.
+         *
+         * @see InheritanceModel#getImplementationReferenceNodes(java.lang.String, java.lang.String)
+         */
+        public Map<String, Set<Node<ImplementationReference>>> getImplementationReferences()
+        {
+            return this.implementationReferences;
+        }
+
+        /**
+         * Gets the effective JAXB element nodes of the implementation.
+         *
+         * @return An unmodifiable map holding unmodifiable sets of effective JAXB element nodes by qualified element
+         * name.
+         *
+         * @see InheritanceModel#getJaxbElementNodes(java.lang.String, javax.xml.namespace.QName)
+         */
+        public Map<QName, Set<Node<JAXBElement<?>>>> getJaxbElements()
+        {
+            return this.jaxbElements;
+        }
+
+        /**
+         * Gets the effective message nodes of the implementation.
+         *
+         * @return An unmodifiable map holding unmodifiable sets of effective message nodes by message name.
+         *
+         * @see InheritanceModel#getMessageNodes(java.lang.String, java.lang.String)
+         */
+        public Map<String, Set<Node<Message>>> getMessages()
+        {
+            return this.messages;
+        }
+
+        /**
+         * Gets the effective property nodes of the implementation.
+         *
+         * @return An unmodifiable map holding unmodifiable sets of effective property nodes by property name.
+         *
+         * @see InheritanceModel#getPropertyNodes(java.lang.String, java.lang.String)
+         */
+        public Map<String, Set<Node<Property>>> getProperties()
+        {
+            return this.properties;
+        }
+
+        /**
+         * Gets the effective specification reference nodes of the implementation.
+         *
+         * @return An unmodifiable map holding unmodifiable sets of effective specification reference nodes by
+         * specification identifier.
+         *
+         * @see InheritanceModel#getSpecificationReferenceNodes(java.lang.String, java.lang.String)
+         */
+        public Map<String, Set<Node<SpecificationReference>>> getSpecificationReferences()
+        {
+            return this.specificationReferences;
+        }
+
+        /**
+         * Gets the effective XML element nodes of the implementation.
+         *
+         * @return An unmodifiable map holding unmodifiable sets of effective XML element nodes by qualified element
+         * name.
+         *
+         * @see InheritanceModel#getXmlElementNodes(java.lang.String, javax.xml.namespace.QName)
+         */
+        public Map<QName, Set<Node<Element>>> getXmlElements()
+        {
+            return this.xmlElements;
+        }
+
+        private static <K, T> Map<K, Set<Node<T>>> members( final Set<K> keys, final Map<K, Set<Node<T>>> nodes )
+        {
+            final Map<K, Set<Node<T>>> members = new HashMap<>( keys.size() * 2 );
+            keys.forEach( k  -> members.put( k, unmodifiableSet( nodes.get( k ) ) ) );
+            return Collections.unmodifiableMap( members );
+        }
+
+    }
+
+    /**
+     * Path to a node as a chain of implementation nodes.
+     * <p>
+     * Paths are immutable. A path extending another path references that path instead of copying it, so that the
+     * nodes of an inheritance hierarchy share the paths they have in common.</p>
+     */
+    private static final class Path
+    {
+
+        /**
+         * The last implementation node of the path.
+         */
+        private final Node<Implementation> node;
+
+        /**
+         * The path to the last implementation node of the path or {@code null}.
+         */
+        private final Path parent;
+
+        /**
+         * The number of implementation nodes of the path.
+         */
+        private final int size;
+
+        /**
+         * Creates a new {@code Path} instance.
+         *
+         * @param node The last implementation node of the path.
+         * @param parent The path to {@code node} or {@code null}.
+         */
+        Path( final Node<Implementation> node, final Path parent )
+        {
+            super();
+            this.node = node;
+            this.parent = parent;
+            this.size = parent != null ? parent.size + 1 : 1;
+        }
+
+        /**
+         * Gets the implementation nodes of a path.
+         *
+         * @param path The path to get the implementation nodes of or {@code null}.
+         *
+         * @return An unmodifiable list holding the implementation nodes of {@code path}.
+         */
+        static List<Node<Implementation>> toList( final Path path )
+        {
+            List<Node<Implementation>> list = Collections.emptyList();
+
+            if ( path != null )
+            {
+                @SuppressWarnings( "unchecked" )
+                final Node<Implementation>[] nodes = new Node[ path.size ];
+
+                for ( Path p = path; p != null; p = p.parent )
+                {
+                    nodes[p.size - 1] = p.node;
+                }
+
+                list = Collections.unmodifiableList( Arrays.asList( nodes ) );
+            }
+
+            return list;
+        }
+
+    }
+
+    /**
+     * Strongly connected components of the graph of the implementation references of the implementations of the
+     * modules backing the model.
+     */
+    private static final class ReferenceGraph
+    {
+
+        /**
+         * Maps implementation identifiers to implementation numbers.
+         */
+        private final Map<String, Integer> indices = new HashMap<>();
+
+        /**
+         * Component numbers by implementation number.
+         */
+        private final int[] components;
+
+        /**
+         * Implementation numbers of implementations taking part in a cycle.
+         */
+        private final BitSet cyclic;
+
+        /**
+         * Identifiers of the implementations of the components taking part in a cycle.
+         */
+        private final List<Set<String>> cycles;
+
+        /**
+         * Creates a new {@code ReferenceGraph} instance.
+         *
+         * @param modules The modules to create the graph of.
+         */
+        ReferenceGraph( final Modules modules )
         {
-            return this.path;
+            super();
+
+            final List<Implementation> implementations = new ArrayList<>();
+
+            for ( int i = 0, s0 = modules.getModule().size(); i < s0; i++ )
+            {
+                final Module m = modules.getModule().get( i );
+
+                if ( m.getImplementations() != null )
+                {
+                    for ( int j = 0, s1 = m.getImplementations().getImplementation().size(); j < s1; j++ )
+                    {
+                        final Implementation implementation = m.getImplementations().getImplementation().get( j );
+
+                        if ( this.indices.putIfAbsent( implementation.getIdentifier(), implementations.size() )
+                                 == null )
+                        {
+                            implementations.add( implementation );
+                        }
+                    }
+                }
+            }
+
+            final int size = implementations.size();
+            final int[][] references = new int[ size ][];
+            final BitSet selfReferencing = new BitSet( size );
+            final BitSet targets = new BitSet( size );
+
+            for ( int i = 0; i < size; i++ )
+            {
+                final Implementations declared = implementations.get( i ).getImplementations();
+                final int degree = declared != null ? declared.getReference().size() : 0;
+                final int[] outgoing = new int[ degree ];
+                int n = 0;
+
+                for ( int j = 0; j < degree; j++ )
+                {
+                    final Integer target = this.indices.get( declared.getReference().get( j ).getIdentifier() );
+
+                    if ( target != null && !targets.get( target ) )
+                    {
+                        targets.set( target );
+                        outgoing[n++] = target;
+                    }
+                }
+
+                // Clears only the bits just set, so that the scratch set is reused at a cost of the out-degree.
+                for ( int j = 0; j < n; j++ )
+                {
+                    targets.clear( outgoing[j] );
+
+                    if ( outgoing[j] == i )
+                    {
+                        selfReferencing.set( i );
+                    }
+                }
+
+                references[i] = n < degree ? Arrays.copyOf( outgoing, n ) : outgoing;
+            }
+
+            // Tarjan's algorithm with explicit stacks, so that deep hierarchies cannot overflow the call stack.
+            this.components = new int[ size ];
+            this.cyclic = new BitSet( size );
+            final int[] order = new int[ size ];
+            final int[] low = new int[ size ];
+            final int[] stack = new int[ size ];
+            final int[] callStack = new int[ size ];
+            final int[] edges = new int[ size ];
+            final BitSet visited = new BitSet( size );
+            final BitSet onStack = new BitSet( size );
+            int count = 0;
+            int component = 0;
+            int top = 0;
+
+            for ( int root = 0; root < size; root++ )
+            {
+                if ( visited.get( root ) )
+                {
+                    continue;
+                }
+
+                int calls = 0;
+                callStack[calls++] = root;
+                edges[root] = 0;
+                visited.set( root );
+                order[root] = low[root] = count++;
+                stack[top++] = root;
+                onStack.set( root );
+
+                while ( calls > 0 )
+                {
+                    final int v = callStack[calls - 1];
+
+                    if ( edges[v] < references[v].length )
+                    {
+                        final int w = references[v][edges[v]++];
+
+                        if ( !visited.get( w ) )
+                        {
+                            callStack[calls++] = w;
+                            edges[w] = 0;
+                            visited.set( w );
+                            order[w] = low[w] = count++;
+                            stack[top++] = w;
+                            onStack.set( w );
+                        }
+                        else if ( onStack.get( w ) )
+                        {
+                            low[v] = Math.min( low[v], order[w] );
+                        }
+                    }
+                    else
+                    {
+                        calls--;
+
+                        if ( calls > 0 )
+                        {
+                            final int u = callStack[calls - 1];
+                            low[u] = Math.min( low[u], low[v] );
+                        }
+
+                        if ( low[v] == order[v] )
+                        {
+                            final int bottom = top;
+
+                            do
+                            {
+                                onStack.clear( stack[--top] );
+                                this.components[stack[top]] = component;
+                            }
+                            while ( stack[top] != v );
+
+                            if ( bottom - top > 1 || selfReferencing.get( v ) )
+                            {
+                                for ( int i = top; i < bottom; i++ )
+                                {
+                                    this.cyclic.set( stack[i] );
+                                }
+                            }
+
+                            component++;
+                        }
+                    }
+                }
+            }
+
+            final Map<Integer, Set<String>> cyclicComponents = new LinkedHashMap<>();
+
+            for ( int i = this.cyclic.nextSetBit( 0 ); i >= 0; i = this.cyclic.nextSetBit( i + 1 ) )
+            {
+                cyclicComponents.computeIfAbsent( this.components[i], k  -> new LinkedHashSet<>() ).
+                    add( implementations.get( i ).getIdentifier() );
+            }
+
+            final List<Set<String>> list = new ArrayList<>( cyclicComponents.size() );
+            cyclicComponents.values().forEach( c  -> list.add( Collections.unmodifiableSet( c ) ) );
+            this.cycles = Collections.unmodifiableList( list );
+        }
+
+        /**
+         * Gets a flag indicating two implementations take part in a common cycle.
+         *
+         * @param implementation The identifier of the first implementation.
+         * @param ancestor The identifier of the second implementation.
+         *
+         * @return {@code true}, if the implementations identified by {@code implementation} and {@code ancestor}
+         * take part in a common cycle; {@code false}, else.
+         */
+        boolean isCyclic( final String implementation, final String ancestor )
+        {
+            final Integer i = this.indices.get( implementation );
+            final Integer a = this.indices.get( ancestor );
+            return i != null && a != null && this.cyclic.get( i ) && this.components[i] == this.components[a];
         }
 
     }
@@ -372,18 +869,52 @@ public class InheritanceModel
     private final Map<String, ContextState> contextStates = newMap();
 
     /**
-     * Creates a new {@code InheritanceModel} instance.
+     * Graph of the implementation references of the model or {@code null}.
+     */
+    private volatile ReferenceGraph referenceGraph;
+
+    /**
+     * Cached effective members by implementation identifier.
+     */
+    private final Map<String, EffectiveMembers> effectiveMembers = newMap();
+
+    /**
+     * Creates a new {@code InheritanceModel} instance backed by a copy of given modules.
      *
      * @param modules The modules backing the model.
      *
      * @throws NullPointerException if {@code modules} is {@code null}.
      *
+     * @see #InheritanceModel(org.jomc.model.Modules, boolean)
      * @see Modules#clone()
      */
     public InheritanceModel( final Modules modules )
+    {
+        this( modules, true );
+    }
+
+    /**
+     * Creates a new {@code InheritanceModel} instance optionally sharing given modules.
+     * <p>
+     * The model never modifies the modules backing it. Model objects the model needs to change are copied before
+     * being changed. When sharing {@code modules} instead of copying them, the model holds the very same object graph
+     * as the caller without duplicating it, and the caller must not modify {@code modules} for as long as it uses the
+     * model.</p>
+     *
+     * @param modules The modules backing the model.
+     * @param copy {@code true}, to back the model by a copy of {@code modules}; {@code false}, to back the model by
+     * {@code modules} without copying.
+     *
+     * @throws NullPointerException if {@code modules} is {@code null}.
+     *
+     * @see Modules#clone()
+     * @since 2.0
+     */
+    public InheritanceModel( final Modules modules, final boolean copy )
     {
         super();
-        this.modules = Objects.requireNonNull( modules, "modules" ).clone();
+        Objects.requireNonNull( modules, "modules" );
+        this.modules = copy ? modules.clone() : modules;
     }
 
     /**
@@ -425,6 +956,28 @@ public class InheritanceModel
         return unmodifiableSet( nodes( this.cyclicImplReferences, implementation ) );
     }
 
+    /**
+     * Gets the implementations taking part in cycles of implementation references.
+     * <p>
+     * Implementations are grouped by the strongly connected components of the graph of the implementation references
+     * of all implementations of the model. Each set holds the identifiers of the implementations of a component
+     * containing at least one cycle, that is of more than one implementation or of an implementation referencing
+     * itself. Cycles are found for all implementations at once, in time linear in the number of implementations and
+     * implementation references.</p>
+     *
+     * @return An unmodifiable list holding unmodifiable sets of the identifiers of the implementations of each
+     * strongly connected component containing a cycle, in the order of the modules and their implementations - an
+     * empty list, if implementation references do not form any cycles.
+     *
+     * @since 2.0
+     *
+     * @see #getCycleNodes(java.lang.String)
+     */
+    public List<Set<String>> getImplementationReferenceCycles()
+    {
+        return this.getReferenceGraph().cycles;
+    }
+
     /**
      * Gets a set holding the names of all dependencies of an implementation.
      *
@@ -744,6 +1297,95 @@ public class InheritanceModel
         return unmodifiableSet( set );
     }
 
+    /**
+     * Gets the effective members of an implementation.
+     * <p>
+     * The members are gathered once per implementation and returned from a cache on subsequent calls. Use this method
+     * instead of querying the nodes of each member name separately, when the complete view of an implementation is
+     * needed.</p>
+     *
+     * @param implementation The identifier of the implementation to get the effective members of.
+     *
+     * @return The effective members of the implementation identified by {@code implementation} or no value, if no such
+     * implementation exists.
+     *
+     * @throws NullPointerException if {@code implementation} is {@code null}.
+     *
+     * @since 2.0
+     *
+     * @see #getEffectiveMembers()
+     */
+    public Optional<EffectiveMembers> getEffectiveMembers( final String implementation )
+    {
+        Objects.requireNonNull( implementation, "implementation" );
+        EffectiveMembers members = this.effectiveMembers.get( implementation );
+
+        if ( members == null )
+        {
+            final Optional<Implementation> i = this.modules.getImplementation( implementation );
+
+            if ( i.isPresent() )
+            {
+                members = new EffectiveMembers( this, i.get() );
+
+                final EffectiveMembers previous = this.effectiveMembers.putIfAbsent( implementation, members );
+
+                if ( previous != null )
+                {
+                    members = previous;
+                }
+            }
+        }
+
+        return Optional.ofNullable( members );
+    }
+
+    /**
+     * Gets the effective members of all implementations of the model.
+     * <p>
+     * The stream is sequential and lazy. The members of an implementation are gathered when the stream reaches the
+     * implementation, unless they have been gathered before.</p>
+     *
+     * @return A sequential stream of the effective members of all implementations of the model, in the order of the
+     * modules and their implementations.
+     *
+     * @since 2.0
+     *
+     * @see #getEffectiveMembers(java.lang.String)
+     */
+    public Stream<EffectiveMembers> getEffectiveMembers()
+    {
+        final Set<String> identifiers = new LinkedHashSet<>();
+
+        for ( int i = 0, s0 = this.modules.getModule().size(); i < s0; i++ )
+        {
+            final Module m = this.modules.getModule().get( i );
+
+            if ( m.getImplementations() != null )
+            {
+                for ( int j = 0, s1 = m.getImplementations().getImplementation().size(); j < s1; j++ )
+                {
+                    identifiers.add( m.getImplementations().getImplementation().get( j ).getIdentifier() );
+                }
+            }
+        }
+
+        return identifiers.stream().map( i  -> this.getEffectiveMembers( i ).get() );
+    }
+
+    private ReferenceGraph getReferenceGraph()
+    {
+        ReferenceGraph graph = this.referenceGraph;
+
+        if ( graph == null )
+        {
+            graph = new ReferenceGraph( this.modules );
+            this.referenceGraph = graph;
+        }
+
+        return graph;
+    }
+
     private void prepareContext( final String context )
     {
         ContextState state = this.contextStates.get( context );
@@ -771,9 +1413,8 @@ public class InheritanceModel
     }
 
     private void collectNodes( final String context, final Implementation declaration,
-                               final Node<Implementation> descendant, final LinkedList<Node<Implementation>> path )
+                               final Node<Implementation> descendant, final Path path )
     {
-        final LinkedList<Node<Implementation>> currentPath = path == null ? new LinkedList<>() : path;
         final Map<String, Node<Implementation>> contextImplementations = map( this.implementations, context );
 
         if ( declaration != null && !contextImplementations.containsKey( declaration.getIdentifier() ) )
@@ -784,11 +1425,11 @@ public class InheritanceModel
             final Node<Implementation> declarationNode =
                 new Node<>( declaration, null, null, descendant, declaration, declaration.isFinal(), false );
 
-            declarationNode.getModifiablePath().addAll( currentPath );
+            declarationNode.setPath( path );
 
             contextImplementations.put( declaration.getIdentifier(), declarationNode );
 
-            currentPath.addLast( declarationNode );
+            final Path currentPath = new Path( declarationNode, path );
 
             if ( declaration.getDependencies() != null )
             {
@@ -869,7 +1510,7 @@ public class InheritanceModel
                               if ( any instanceof Element )
                               {
                                   node = new Node<>( declaration, null, null, descendant, (Element) any, false, false );
-                                  node.getModifiablePath().addAll( currentPath );
+                                  node.setPath( currentPath );
                               }
 
                               return node;
@@ -893,7 +1534,7 @@ public class InheritanceModel
                                   }
 
                                   node = new Node<>( declaration, null, null, descendant, e, _final, override );
-                                  node.getModifiablePath().addAll( currentPath );
+                                  node.setPath( currentPath );
                               }
 
                               return node;
@@ -912,21 +1553,24 @@ public class InheritanceModel
                     final Node<ImplementationReference> node =
                         new Node<>( declaration, null, null, descendant, r, r.isFinal(), r.isOverride() );
 
-                    node.getModifiablePath().addAll( currentPath );
+                    node.setPath( currentPath );
 
                     final Optional<Implementation> ancestor = this.modules.getImplementation( r.getIdentifier() );
 
                     boolean cycle = false;
-                    if ( ancestor.isPresent() && contextImplementations.containsKey( ancestor.get().getIdentifier() ) )
+
+                    // Only references between implementations of a common strongly connected component of the
+                    // reference graph can close a cycle. Search the path for the ancestor only for those.
+                    if ( ancestor.isPresent() && contextImplementations.containsKey( ancestor.get().getIdentifier() )
+                             && this.getReferenceGraph().isCyclic( declaration.getIdentifier(),
+                                                                   ancestor.get().getIdentifier() ) )
                     {
-                        for ( int j = 0, s1 = currentPath.size(); j < s1; j++ )
+                        for ( Path p = currentPath; p != null; p = p.parent )
                         {
-                            final Node<Implementation> n = currentPath.get( j );
-
-                            if ( n.getModelObject().getIdentifier().equals( ancestor.get().getIdentifier() ) )
+                            if ( p.node.getModelObject().getIdentifier().equals( ancestor.get().getIdentifier() ) )
                             {
                                 cycle = true;
-                                node.getModifiablePath().add( n );
+                                node.setPath( new Path( p.node, currentPath ) );
                                 break;
                             }
                         }
@@ -962,27 +1606,25 @@ public class InheritanceModel
                 final Map<String, Node<Implementation>> srcNodes = map( this.sourceNodes, context );
                 srcNodes.put( declarationNode.getModelObject().getIdentifier(), declarationNode );
             }
-
-            currentPath.removeLast();
         }
     }
 
     private static <T extends Inheritable, K> void collectNodes( final Map<K, Set<Node<T>>> collectedNodes,
                                                                  final Collection<T> declaredModelObjects,
-                                                                 final Collection<Node<Implementation>> path,
+                                                                 final Path path,
                                                                  final Specification specification,
                                                                  final Implementation declaration,
                                                                  final Node<Implementation> descendant,
                                                                  final Function<T, K> modelObjectKeyFunction )
     {
-        try ( final Stream<T> st0 = declaredModelObjects.parallelStream().unordered() )
+        try ( final Stream<T> st0 = ExecutionPolicy.getDefault().stream( declaredModelObjects ).unordered() )
         {
             st0.map( o  ->
             {
                 final Node<T> node = new Node<>( declaration, specification, null, descendant, o, o.isFinal(),
                                                  o.isOverride() );
 
-                node.getModifiablePath().addAll( path );
+                node.setPath( path );
                 return node;
             } ).forEach( n  ->
             {
@@ -994,11 +1636,11 @@ public class InheritanceModel
 
     private static <R extends Inheritable, T, K> void collectNodes(
         final Map<K, Set<Node<T>>> collectedNodes, final Collection<R> declaredReferenceModelObjects,
-        final Collection<Node<Implementation>> path, final Implementation declaration,
+        final Path path, final Implementation declaration,
         final Node<Implementation> descendant, final Function<R, Optional<T>> findModelObjectFunction,
         final BiFunction<T, R, T> inheritanceAttributesFunction, final Function<T, K> modelObjectKeyFunction )
     {
-        try ( final Stream<R> st0 = declaredReferenceModelObjects.parallelStream().unordered() )
+        try ( final Stream<R> st0 = ExecutionPolicy.getDefault().stream( declaredReferenceModelObjects ).unordered() )
         {
             st0.map( r  ->
             {
@@ -1011,7 +1653,7 @@ public class InheritanceModel
                                        inheritanceAttributesFunction.apply( modelObject.get(), r ),
                                        r.isFinal(), r.isOverride() );
 
-                    node.getModifiablePath().addAll( path );
+                    node.setPath( path );
                 }
 
                 return node;
@@ -1027,7 +1669,7 @@ public class InheritanceModel
         final Map<K, Set<Node<T>>> collectedNodes, final Collection<D> declaredModelObjects,
         final Function<D, Node<T>> mapFunction, final Function<T, K> modelObjectKeyFunction )
     {
-        try ( final Stream<D> st0 = declaredModelObjects.parallelStream().unordered() )
+        try ( final Stream<D> st0 = ExecutionPolicy.getDefault().stream( declaredModelObjects ).unordered() )
         {
             st0.map( mapFunction ).filter( n  -> n != null ).forEach( n  ->
             {
@@ -1193,11 +1835,12 @@ public class InheritanceModel
                                                          final Implementation implementation,
                                                          final Implementation classDeclaration )
     {
-        try ( final Stream<Map.Entry<K, Set<Node<T>>>> st0 = declaredNodes.entrySet().parallelStream().unordered() )
+        try ( final Stream<Map.Entry<K, Set<Node<T>>>> st0 =
+            ExecutionPolicy.getDefault().stream( declaredNodes.entrySet() ).unordered() )
         {
             st0.forEach( e  ->
             {
-                try ( final Stream<Node<T>> st1 = e.getValue().parallelStream().unordered() )
+                try ( final Stream<Node<T>> st1 = ExecutionPolicy.getDefault().stream( e.getValue() ).unordered() )
                 {
                     final Set<Node<T>> nodes = st1.map( n  ->
                     {
@@ -1205,7 +1848,7 @@ public class InheritanceModel
                             new Node<>( implementation, n.getSpecification(), classDeclaration,
                                         null, n.getModelObject(), n.isFinal(), n.isOverride() );
 
-                        effNode.getModifiablePath().addAll( n.getPath() );
+                        effNode.setPath( n.path );
                         return effNode;
                     } ).collect( Collector.of( CopyOnWriteArraySet::new, Set::add, ( s1, s2 )  ->
                                            {
@@ -1278,13 +1921,14 @@ public class InheritanceModel
 
             final Set<Node<T>> overridingNodes = newSet();
 
-            try ( final Stream<Node<T>> st0 = e.getValue().parallelStream().unordered() )
+            try ( final Stream<Node<T>> st0 = ExecutionPolicy.getDefault().stream( e.getValue() ).unordered() )
             {
                 st0.forEach( directNode  ->
                 {
                     final Collection<Node<T>> overriddenNodes = newSet();
 
-                    try ( final Stream<Node<T>> st1 = effectiveNodes.parallelStream().unordered() )
+                    try ( final Stream<Node<T>> st1 =
+                        ExecutionPolicy.getDefault().stream( effectiveNodes ).unordered() )
                     {
                         st1.filter( n  -> isOverriding( n, directNode ) ).
                             map( n  ->
@@ -1344,11 +1988,12 @@ public class InheritanceModel
         final Map<String, Map<K, Set<Node<T>>>> effective, final Map<K, Set<Node<T>>> ancestor,
         final Node<Implementation> descendant )
     {
-        try ( final Stream<Map.Entry<K, Set<Node<T>>>> st0 = ancestor.entrySet().parallelStream().unordered() )
+        try ( final Stream<Map.Entry<K, Set<Node<T>>>> st0 =
+            ExecutionPolicy.getDefault().stream( ancestor.entrySet() ).unordered() )
         {
             st0.forEach( e  ->
             {
-                try ( final Stream<Node<T>> st1 = e.getValue().parallelStream().unordered() )
+                try ( final Stream<Node<T>> st1 = ExecutionPolicy.getDefault().stream( e.getValue() ).unordered() )
                 {
                     final Set<Node<T>> nodes = effectiveNodes( effective, descendant.getModelObject().getIdentifier(),
                                                                e.getKey() );
@@ -1369,13 +2014,14 @@ public class InheritanceModel
     {
         final Map<K, Set<Node<T>>> declarationMap = newMap( map.size() );
 
-        try ( final Stream<Map.Entry<K, Set<Node<T>>>> st0 = map.entrySet().parallelStream().unordered() )
+        try ( final Stream<Map.Entry<K, Set<Node<T>>>> st0 =
+            ExecutionPolicy.getDefault().stream( map.entrySet() ).unordered() )
         {
             st0.forEach( e  ->
             {
                 final Set<Node<T>> set = nodes( declarationMap, e.getKey() );
 
-                try ( final Stream<Node<T>> st1 = e.getValue().parallelStream().unordered() )
+                try ( final Stream<Node<T>> st1 = ExecutionPolicy.getDefault().stream( e.getValue() ).unordered() )
                 {
                     set.addAll( st1.filter( n  -> isDirectEffectiveNode( n, origin ) ).
                         collect( Collector.of( CopyOnWriteArrayList::new, List::add, ( l1, l2 )  ->
@@ -1387,7 +2033,7 @@ public class InheritanceModel
 
                 }
 
-                try ( final Stream<Node<T>> st1 = e.getValue().parallelStream().unordered() )
+                try ( final Stream<Node<T>> st1 = ExecutionPolicy.getDefault().stream( e.getValue() ).unordered() )
                 {
                     set.addAll( st1.filter( n  -> isDirectSpecifiedNode( n, origin ) ).
                         filter( n  ->
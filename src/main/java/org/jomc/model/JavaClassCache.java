@@ -0,0 +1,138 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jomc.jls.JavaTypeName;
+import org.jomc.util.WeakIdentityHashMap;
+
+/**
+ * Cache of Java classes resolved by binary name and class loader.
+ * <p>
+ * A cache remembers the classes it resolved as well as the names it failed to resolve, so that repeated lookups of
+ * the same type - successful or not - are answered without asking the class loader again. Instances are intended to
+ * be short-lived, for example for the duration of a single validation, and are safe for use by multiple concurrent
+ * threads. Class loaders and classes are referenced weakly, so that a cache does not prevent class loaders from
+ * being garbage collected.</p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+public final class JavaClassCache
+{
+
+    /**
+     * Key used in place of the platform's bootstrap class loader.
+     */
+    private static final Object BOOTSTRAP_CLASSLOADER_KEY = new Object();
+
+    /**
+     * Maps weakly referenced class loaders to mappings of binary names to weakly referenced classes or
+     * {@code ClassNotFoundException}s.
+     */
+    private final Map<Object, Map<String, Object>> classes =
+        Collections.synchronizedMap( new WeakIdentityHashMap<Object, Map<String, Object>>() );
+
+    /**
+     * Creates a new {@code JavaClassCache} instance.
+     */
+    public JavaClassCache()
+    {
+        super();
+    }
+
+    /**
+     * Gets the Java class of a given type name from a given class loader.
+     *
+     * @param javaTypeName The type name to get the Java class of.
+     * @param classLoader The class loader to get the Java class from or {@code null}, to get the Java class from the
+     * platform's bootstrap class loader.
+     *
+     * @return The Java class of {@code javaTypeName}.
+     *
+     * @throws NullPointerException if {@code javaTypeName} is {@code null}.
+     * @throws ClassNotFoundException if the Java class is not found, also if a previous lookup of the class already
+     * failed.
+     *
+     * @see JavaTypeName#getClass(java.lang.ClassLoader, boolean)
+     */
+    public Class<?> getClass( final JavaTypeName javaTypeName, final ClassLoader classLoader )
+        throws ClassNotFoundException
+    {
+        Objects.requireNonNull( javaTypeName, "javaTypeName" );
+
+        final Map<String, Object> classesByName = this.classes.computeIfAbsent(
+            classLoader != null ? classLoader : BOOTSTRAP_CLASSLOADER_KEY, k  -> new ConcurrentHashMap<>() );
+
+        final String binaryName = javaTypeName.getClassName();
+        final Object cached = classesByName.get( binaryName );
+
+        if ( cached instanceof ClassNotFoundException )
+        {
+            final ClassNotFoundException e = (ClassNotFoundException) cached;
+            throw new ClassNotFoundException( e.getMessage(), e );
+        }
+
+        // Classes are strongly referenced by the class loaders defining them and are cleared only together with these.
+        Class<?> javaClass = cached != null ? (Class<?>) ( (Reference<?>) cached ).get() : null;
+
+        if ( javaClass == null )
+        {
+            try
+            {
+                javaClass = javaTypeName.getClass( classLoader, false );
+                classesByName.put( binaryName, new WeakReference<Class<?>>( javaClass ) );
+            }
+            catch ( final ClassNotFoundException e )
+            {
+                classesByName.put( binaryName, e );
+                throw new ClassNotFoundException( e.getMessage(), e );
+            }
+        }
+
+        return javaClass;
+    }
+
+    /**
+     * Removes all classes and failed lookups from the cache.
+     */
+    public void clear()
+    {
+        this.classes.clear();
+    }
+
+}
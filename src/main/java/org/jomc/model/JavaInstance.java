@@ -0,0 +1,350 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Java reflection metadata of an instance for a class loader.
+ * <p>
+ * The metadata is computed lazily on first use and remembered afterwards. It remembers the attributes of the
+ * instance it got computed from and needs to be recomputed whenever any of these attributes change. Failures are not
+ * remembered. The class loader is referenced weakly. Metadata is safe for use by multiple concurrent threads.</p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ *
+ * @see Instance#getJavaClass(java.lang.ClassLoader)
+ * @see Instance#getJavaClasses(java.lang.ClassLoader)
+ * @see Instance#getJavaConstructor(java.lang.ClassLoader)
+ * @see Instance#getJavaFactoryMethod(java.lang.ClassLoader)
+ * @see Instance#isJavaClassAssignable(java.lang.ClassLoader)
+ * @see Instance#getJavaProxyClass(java.lang.ClassLoader)
+ */
+final class JavaInstance
+{
+
+    /**
+     * Empty {@code Class} array.
+     */
+    private static final Class<?>[] NO_CLASSES =
+    {
+    };
+
+    /**
+     * The instance the metadata is computed from.
+     */
+    private final Instance instance;
+
+    /**
+     * The class loader the metadata is computed for, referencing {@code null} for the platform's bootstrap class
+     * loader.
+     */
+    private final Reference<ClassLoader> classLoader;
+
+    /**
+     * The class of the instance the metadata is computed from.
+     */
+    private final String clazz;
+
+    /**
+     * The name of the instance the metadata is computed from.
+     */
+    private final String name;
+
+    /**
+     * The specifications of the instance the metadata is computed from or {@code null}.
+     */
+    private final Specifications specifications;
+
+    /**
+     * The list of specifications of the instance the metadata is computed from or {@code null}.
+     */
+    private final List<Specification> specificationList;
+
+    /**
+     * The classes of the specifications of the instance the metadata is computed from.
+     */
+    private final String[] specificationClasses;
+
+    /**
+     * The Java class of the instance or {@code null}.
+     */
+    private volatile Optional<Class<?>> javaClass;
+
+    /**
+     * The Java classes of the specifications of the instance or {@code null}.
+     */
+    private volatile Class<?>[] javaClasses;
+
+    /**
+     * The Java constructor of the instance or {@code null}.
+     */
+    private volatile Optional<Constructor<?>> javaConstructor;
+
+    /**
+     * The Java factory method of the instance or {@code null}.
+     */
+    private volatile Optional<Method> javaFactoryMethod;
+
+    /**
+     * Flag indicating the Java class of the instance is assignable to all specification classes or {@code null}.
+     */
+    private volatile Boolean javaClassAssignable;
+
+    /**
+     * The Java proxy class of the instance or {@code null}.
+     */
+    private volatile Optional<Class<?>> javaProxyClass;
+
+    /**
+     * The plan for creating objects of the instance or {@code null}.
+     */
+    private volatile JavaObjectFactory javaObjectFactory;
+
+    /**
+     * Creates a new {@code JavaInstance} instance taking an instance and a class loader.
+     *
+     * @param instance The instance to compute metadata of.
+     * @param classLoader The class loader to compute metadata for or {@code null}, to compute metadata for the
+     * platform's bootstrap class loader.
+     */
+    JavaInstance( final Instance instance, final ClassLoader classLoader )
+    {
+        super();
+        this.instance = instance;
+        this.classLoader = new WeakReference<>( classLoader );
+        this.clazz = instance.getClazz();
+        this.name = instance.getName();
+        this.specifications = instance.getSpecifications();
+        this.specificationList = this.specifications != null ? this.specifications.getSpecification() : null;
+        this.specificationClasses = new String[ this.specificationList != null ? this.specificationList.size() : 0 ];
+
+        for ( int i = 0; i < this.specificationClasses.length; i++ )
+        {
+            this.specificationClasses[i] = this.specificationList.get( i ).getClazz();
+        }
+    }
+
+    /**
+     * Gets a flag indicating the metadata got computed from the current state of the instance.
+     * <p>
+     * Attributes are compared by reference. Attributes set to equal but different objects are therefore reported as
+     * changed as well.</p>
+     *
+     * @return {@code true}, if the metadata is up-to-date; {@code false}, if the class, the name or the specification
+     * classes of the instance changed.
+     */
+    boolean isValid()
+    {
+        boolean valid = this.clazz == this.instance.getClazz() && this.name == this.instance.getName()
+                            && this.specifications == this.instance.getSpecifications()
+                            && ( this.specifications == null
+                                 || ( this.specificationList == this.specifications.getSpecification()
+                                      && this.specificationClasses.length == this.specificationList.size() ) );
+
+        for ( int i = this.specificationClasses.length - 1; valid && i >= 0; i-- )
+        {
+            valid = this.specificationClasses[i] == this.specificationList.get( i ).getClazz();
+        }
+
+        return valid;
+    }
+
+    Optional<Class<?>> getJavaClass() throws ClassNotFoundException, ModelObjectException
+    {
+        Optional<Class<?>> c = this.javaClass;
+
+        if ( c == null )
+        {
+            c = this.instance.getJavaClass( this.classLoader.get(), new JavaClassCache() );
+            this.javaClass = c;
+        }
+
+        return c;
+    }
+
+    Class<?>[] getJavaClasses() throws ClassNotFoundException, ModelObjectException
+    {
+        Class<?>[] c = this.javaClasses;
+
+        if ( c == null )
+        {
+            c = this.instance.getJavaClasses( this.classLoader.get(), new JavaClassCache() );
+            this.javaClasses = c;
+        }
+
+        return c.clone();
+    }
+
+    Optional<Constructor<?>> getJavaConstructor() throws ClassNotFoundException, ModelObjectException
+    {
+        Optional<Constructor<?>> c = this.javaConstructor;
+
+        if ( c == null )
+        {
+            Constructor<?> constructor = null;
+            final Optional<Class<?>> type = this.getJavaClass();
+
+            if ( type.isPresent() && Modifier.isPublic( type.get().getModifiers() )
+                     && !Modifier.isAbstract( type.get().getModifiers() ) )
+            {
+                try
+                {
+                    constructor = type.get().getConstructor( NO_CLASSES );
+                }
+                catch ( final NoSuchMethodException e )
+                {
+                    constructor = null;
+                }
+            }
+
+            c = Optional.ofNullable( constructor );
+            this.javaConstructor = c;
+        }
+
+        return c;
+    }
+
+    Optional<Method> getJavaFactoryMethod() throws ClassNotFoundException, ModelObjectException
+    {
+        Optional<Method> m = this.javaFactoryMethod;
+
+        if ( m == null )
+        {
+            Method factoryMethod = null;
+            final Optional<Class<?>> type = this.getJavaClass();
+
+            if ( type.isPresent() )
+            {
+                final Optional<String> methodName = this.instance.getJavaFactoryMethodName();
+
+                if ( methodName.isPresent() )
+                {
+                    factoryMethod = getMethod( type.get(), methodName.get() );
+                }
+
+                if ( factoryMethod == null )
+                {
+                    factoryMethod = getMethod( type.get(), "getObject" );
+                }
+            }
+
+            m = Optional.ofNullable( factoryMethod );
+            this.javaFactoryMethod = m;
+        }
+
+        return m;
+    }
+
+    boolean isJavaClassAssignable() throws ClassNotFoundException, ModelObjectException
+    {
+        Boolean a = this.javaClassAssignable;
+
+        if ( a == null )
+        {
+            // Computed from the classes remembered, so that no class gets resolved twice.
+            final Optional<Class<?>> type = this.getJavaClass();
+            boolean assignable = type.isPresent();
+
+            if ( assignable )
+            {
+                final Class<?>[] classes = this.getJavaClasses();
+
+                for ( int i = classes.length - 1; i >= 0 && assignable; i-- )
+                {
+                    assignable = classes[i].isAssignableFrom( type.get() );
+                }
+            }
+
+            a = assignable;
+            this.javaClassAssignable = a;
+        }
+
+        return a;
+    }
+
+    Optional<Class<?>> getJavaProxyClass() throws ClassNotFoundException, ModelObjectException
+    {
+        Optional<Class<?>> c = this.javaProxyClass;
+
+        if ( c == null )
+        {
+            final Class<?>[] classes = this.getJavaClasses();
+            boolean canProxy = classes.length > 0;
+
+            for ( int i = classes.length - 1; i >= 0 && canProxy; i-- )
+            {
+                canProxy = classes[i].isInterface();
+            }
+
+            c = Optional.ofNullable( canProxy ? Proxy.getProxyClass( this.classLoader.get(), classes ) : null );
+            this.javaProxyClass = c;
+        }
+
+        return c;
+    }
+
+    JavaObjectFactory getJavaObjectFactory()
+        throws ClassNotFoundException, ModelObjectException, IllegalAccessException
+    {
+        JavaObjectFactory f = this.javaObjectFactory;
+
+        if ( f == null )
+        {
+            f = JavaObjectFactory.newInstance( this );
+            this.javaObjectFactory = f;
+        }
+
+        return f;
+    }
+
+    private static Method getMethod( final Class<?> type, final String methodName )
+    {
+        try
+        {
+            return type.getMethod( methodName, (Class[]) null );
+        }
+        catch ( final NoSuchMethodException e )
+        {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,574 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jomc.jls.JavaIdentifier;
+import org.jomc.jls.JavaTypeName;
+
+/**
+ * Java view of the implementations of a list of modules.
+ * <p>
+ * A Java view holds the Java type names, modifiers and identifiers of each implementation and of its effective
+ * dependencies, properties and messages, as code generators need them. Obtaining these values from the model objects
+ * and modules directly collects the members of an implementation again for each value. A Java view is computed in a
+ * single pass over the implementations of the modules instead, processing the implementations concurrently as
+ * permitted by the execution policy of the modules. Views are not updated when the modules change, are immutable and
+ * safe for use by multiple concurrent threads.</p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ *
+ * @see Modules#getJavaModel()
+ */
+public final class JavaModel
+{
+
+    /**
+     * The types of the model by implementation identifier.
+     */
+    private final Map<String, Type> types;
+
+    /**
+     * Creates a new {@code JavaModel} instance taking the modules to build the model of.
+     *
+     * @param modules The modules to build the model of.
+     *
+     * @throws NullPointerException if {@code modules} is {@code null}.
+     * @throws ModelObjectException if compiling a name to a {@code JavaTypeName} or {@code JavaIdentifier} fails.
+     */
+    public JavaModel( final Modules modules ) throws ModelObjectException
+    {
+        super();
+        Objects.requireNonNull( modules, "modules" );
+
+        final Map<String, Implementation> implementations = new LinkedHashMap<>();
+
+        for ( int i = 0, s0 = modules.getModule().size(); i < s0; i++ )
+        {
+            final Module m = modules.getModule().get( i );
+
+            if ( m.getImplementations() != null )
+            {
+                for ( int j = 0, s1 = m.getImplementations().getImplementation().size(); j < s1; j++ )
+                {
+                    final Implementation implementation = m.getImplementations().getImplementation().get( j );
+
+                    if ( implementation.getIdentifier() != null )
+                    {
+                        implementations.putIfAbsent( implementation.getIdentifier(), implementation );
+                    }
+                }
+            }
+        }
+
+        final class CreateTypeFailure extends RuntimeException
+        {
+
+            CreateTypeFailure( final Throwable cause )
+            {
+                super( Objects.requireNonNull( cause, "cause" ) );
+            }
+
+            <T extends Exception> void handleCause( final Class<T> cause ) throws T
+            {
+                if ( Objects.requireNonNull( cause, "cause" ).isAssignableFrom( this.getCause().getClass() ) )
+                {
+                    throw (T) this.getCause();
+                }
+            }
+
+            Error unhandledCauseError()
+            {
+                return new AssertionError( this.getCause() );
+            }
+
+        }
+
+        final List<Type> list;
+
+        try ( final Stream<Implementation> st0 = modules.getExecutionPolicy().stream( implementations.values() ) )
+        {
+            list = st0.map( i  ->
+            {
+                try
+                {
+                    return new Type( modules, i );
+                }
+                catch ( final ModelObjectException e )
+                {
+                    throw new CreateTypeFailure( e );
+                }
+            } ).collect( Collectors.toList() );
+        }
+        catch ( final CreateTypeFailure f )
+        {
+            f.handleCause( ModelObjectException.class );
+            throw f.unhandledCauseError();
+        }
+
+        final Map<String, Type> map = new LinkedHashMap<>( list.size() * 2 );
+
+        for ( int i = 0, s0 = list.size(); i < s0; i++ )
+        {
+            map.put( list.get( i ).getImplementation().getIdentifier(), list.get( i ) );
+        }
+
+        this.types = Collections.unmodifiableMap( map );
+    }
+
+    /**
+     * Gets the types of the model.
+     *
+     * @return An unmodifiable collection holding the types of all implementations of the model, in the order of the
+     * modules and their implementations.
+     */
+    public Collection<Type> getTypes()
+    {
+        return this.types.values();
+    }
+
+    /**
+     * Gets the type of an implementation.
+     *
+     * @param implementation The identifier of the implementation to get the type of.
+     *
+     * @return The type of the first implementation identified by {@code implementation} or no value, if no such
+     * implementation is part of the model.
+     *
+     * @throws NullPointerException if {@code implementation} is {@code null}.
+     */
+    public Optional<Type> getType( final String implementation )
+    {
+        return Optional.ofNullable( this.types.get( Objects.requireNonNull( implementation, "implementation" ) ) );
+    }
+
+    /**
+     * Java view of an implementation.
+     *
+     * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+     * @version $JOMC$
+     * @since 2.0
+     */
+    public static final class Type
+    {
+
+        /**
+         * The implementation of the type.
+         */
+        private final Implementation implementation;
+
+        /**
+         * The Java type name of the implementation or {@code null}.
+         */
+        private final JavaTypeName javaTypeName;
+
+        /**
+         * The Java type names implemented by the implementation.
+         */
+        private final List<JavaTypeName> implementedJavaTypeNames;
+
+        /**
+         * The effective dependencies of the implementation by name.
+         */
+        private final Map<String, Member> dependencies;
+
+        /**
+         * The effective properties of the implementation by name.
+         */
+        private final Map<String, Member> properties;
+
+        /**
+         * The effective messages of the implementation by name.
+         */
+        private final Map<String, Member> messages;
+
+        /**
+         * Creates a new {@code Type} instance taking the implementation to create the type of.
+         *
+         * @param modules The modules of the implementation.
+         * @param implementation The implementation to create the type of.
+         *
+         * @throws ModelObjectException if compiling a name to a {@code JavaTypeName} or {@code JavaIdentifier} fails.
+         */
+        private Type( final Modules modules, final Implementation implementation ) throws ModelObjectException
+        {
+            super();
+            final String identifier = implementation.getIdentifier();
+            this.implementation = implementation;
+            this.javaTypeName = implementation.getJavaTypeName().orElse( null );
+            this.implementedJavaTypeNames =
+                modules.getImplementedJavaTypeNames( identifier ).orElse( Collections.<JavaTypeName>emptyList() );
+
+            final Map<String, Member> dependencyMembers = new LinkedHashMap<>();
+            final Optional<Dependencies> d = modules.getDependencies( identifier );
+
+            if ( d.isPresent() )
+            {
+                for ( int i = 0, s0 = d.get().getDependency().size(); i < s0; i++ )
+                {
+                    final Dependency dependency = d.get().getDependency().get( i );
+
+                    dependencyMembers.putIfAbsent( dependency.getName(), new Member(
+                                                   dependency.getName(),
+                                                   modules.getDependencyJavaTypeName( dependency ).orElse( null ),
+                                                   "private", dependency.getJavaGetterMethodName(),
+                                                   dependency.getJavaSetterMethodName(),
+                                                   dependency.getJavaVariableName(),
+                                                   dependency.getJavaConstantName() ) );
+
+                }
+            }
+
+            final Map<String, Member> propertyMembers = new LinkedHashMap<>();
+            final Optional<Properties> p = modules.getProperties( identifier );
+
+            if ( p.isPresent() )
+            {
+                final Optional<Properties> specified = modules.getSpecifiedProperties( identifier );
+
+                for ( int i = 0, s0 = p.get().getProperty().size(); i < s0; i++ )
+                {
+                    final Property property = p.get().getProperty().get( i );
+
+                    propertyMembers.putIfAbsent( property.getName(), new Member(
+                                                 property.getName(), property.getJavaTypeName(),
+                                                 specified.isPresent()
+                                                     && specified.get().getProperty( property.getName() ).isPresent()
+                                                     ? "public"
+                                                     : "private",
+                                                 property.getJavaGetterMethodName(),
+                                                 property.getJavaSetterMethodName(),
+                                                 property.getJavaVariableName(),
+                                                 property.getJavaConstantName() ) );
+
+                }
+            }
+
+            final Map<String, Member> messageMembers = new LinkedHashMap<>();
+            final Optional<Messages> m = modules.getMessages( identifier );
+
+            if ( m.isPresent() )
+            {
+                for ( int i = 0, s0 = m.get().getMessage().size(); i < s0; i++ )
+                {
+                    final Message message = m.get().getMessage().get( i );
+
+                    messageMembers.putIfAbsent( message.getName(), new Member(
+                                                message.getName(), null, "private",
+                                                message.getJavaGetterMethodName(),
+                                                message.getJavaSetterMethodName(),
+                                                message.getJavaVariableName(),
+                                                message.getJavaConstantName() ) );
+
+                }
+            }
+
+            this.dependencies = Collections.unmodifiableMap( dependencyMembers );
+            this.properties = Collections.unmodifiableMap( propertyMembers );
+            this.messages = Collections.unmodifiableMap( messageMembers );
+        }
+
+        /**
+         * Gets the implementation of the type.
+         *
+         * @return The implementation of the type.
+         */
+        public Implementation getImplementation()
+        {
+            return this.implementation;
+        }
+
+        /**
+         * Gets the Java type name of the implementation.
+         *
+         * @return The Java type name of the implementation or no value, if the implementation does not reference a
+         * type.
+         *
+         * @see Implementation#getJavaTypeName()
+         */
+        public Optional<JavaTypeName> getJavaTypeName()
+        {
+            return Optional.ofNullable( this.javaTypeName );
+        }
+
+        /**
+         * Gets the Java type names implemented by the implementation.
+         *
+         * @return An unmodifiable list holding the Java type names implemented by the implementation.
+         *
+         * @see Modules#getImplementedJavaTypeNames(java.lang.String)
+         */
+        public List<JavaTypeName> getImplementedJavaTypeNames()
+        {
+            return this.implementedJavaTypeNames;
+        }
+
+        /**
+         * Gets the effective dependencies of the implementation.
+         *
+         * @return An unmodifiable collection holding the effective dependencies of the implementation, sorted by name.
+         *
+         * @see Modules#getDependencies(java.lang.String)
+         */
+        public Collection<Member> getDependencies()
+        {
+            return this.dependencies.values();
+        }
+
+        /**
+         * Gets an effective dependency of the implementation.
+         *
+         * @param name The name of the dependency to get.
+         *
+         * @return The effective dependency named {@code name} or no value, if no such dependency exists.
+         *
+         * @throws NullPointerException if {@code name} is {@code null}.
+         */
+        public Optional<Member> getDependency( final String name )
+        {
+            return Optional.ofNullable( this.dependencies.get( Objects.requireNonNull( name, "name" ) ) );
+        }
+
+        /**
+         * Gets the effective properties of the implementation.
+         *
+         * @return An unmodifiable collection holding the effective properties of the implementation, sorted by name.
+         *
+         * @see Modules#getProperties(java.lang.String)
+         */
+        public Collection<Member> getProperties()
+        {
+            return this.properties.values();
+        }
+
+        /**
+         * Gets an effective property of the implementation.
+         *
+         * @param name The name of the property to get.
+         *
+         * @return The effective property named {@code name} or no value, if no such property exists.
+         *
+         * @throws NullPointerException if {@code name} is {@code null}.
+         */
+        public Optional<Member> getProperty( final String name )
+        {
+            return Optional.ofNullable( this.properties.get( Objects.requireNonNull( name, "name" ) ) );
+        }
+
+        /**
+         * Gets the effective messages of the implementation.
+         *
+         * @return An unmodifiable collection holding the effective messages of the implementation, sorted by name.
+         *
+         * @see Modules#getMessages(java.lang.String)
+         */
+        public Collection<Member> getMessages()
+        {
+            return this.messages.values();
+        }
+
+        /**
+         * Gets an effective message of the implementation.
+         *
+         * @param name The name of the message to get.
+         *
+         * @return The effective message named {@code name} or no value, if no such message exists.
+         *
+         * @throws NullPointerException if {@code name} is {@code null}.
+         */
+        public Optional<Member> getMessage( final String name )
+        {
+            return Optional.ofNullable( this.messages.get( Objects.requireNonNull( name, "name" ) ) );
+        }
+
+    }
+
+    /**
+     * Java view of a dependency, property or message of an implementation.
+     *
+     * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+     * @version $JOMC$
+     * @since 2.0
+     */
+    public static final class Member
+    {
+
+        /**
+         * The name of the member.
+         */
+        private final String name;
+
+        /**
+         * The Java type name of the member or {@code null}.
+         */
+        private final JavaTypeName javaTypeName;
+
+        /**
+         * The Java modifier name of the member.
+         */
+        private final String javaModifierName;
+
+        /**
+         * The Java getter method name of the member.
+         */
+        private final JavaIdentifier javaGetterMethodName;
+
+        /**
+         * The Java setter method name of the member.
+         */
+        private final JavaIdentifier javaSetterMethodName;
+
+        /**
+         * The Java variable name of the member.
+         */
+        private final JavaIdentifier javaVariableName;
+
+        /**
+         * The Java constant name of the member.
+         */
+        private final JavaIdentifier javaConstantName;
+
+        /**
+         * Creates a new {@code Member} instance.
+         *
+         * @param name The name of the member.
+         * @param javaTypeName The Java type name of the member or {@code null}.
+         * @param javaModifierName The Java modifier name of the member.
+         * @param javaGetterMethodName The Java getter method name of the member.
+         * @param javaSetterMethodName The Java setter method name of the member.
+         * @param javaVariableName The Java variable name of the member.
+         * @param javaConstantName The Java constant name of the member.
+         */
+        private Member( final String name, final JavaTypeName javaTypeName, final String javaModifierName,
+                        final JavaIdentifier javaGetterMethodName, final JavaIdentifier javaSetterMethodName,
+                        final JavaIdentifier javaVariableName, final JavaIdentifier javaConstantName )
+        {
+            super();
+            this.name = name;
+            this.javaTypeName = javaTypeName;
+            this.javaModifierName = javaModifierName;
+            this.javaGetterMethodName = javaGetterMethodName;
+            this.javaSetterMethodName = javaSetterMethodName;
+            this.javaVariableName = javaVariableName;
+            this.javaConstantName = javaConstantName;
+        }
+
+        /**
+         * Gets the name of the member.
+         *
+         * @return The name of the member.
+         */
+        public String getName()
+        {
+            return this.name;
+        }
+
+        /**
+         * Gets the Java type name of the member.
+         *
+         * @return The Java type name of the member or no value, if the member is a message or a dependency on a
+         * specification not found or not referencing a type.
+         *
+         * @see Modules#getDependencyJavaTypeName(java.lang.String, java.lang.String)
+         * @see Property#getJavaTypeName()
+         */
+        public Optional<JavaTypeName> getJavaTypeName()
+        {
+            return Optional.ofNullable( this.javaTypeName );
+        }
+
+        /**
+         * Gets the Java modifier name of the member.
+         *
+         * @return The Java modifier name of the member.
+         *
+         * @see Modules#getDependencyJavaModifierName(java.lang.String, java.lang.String)
+         * @see Modules#getPropertyJavaModifierName(java.lang.String, java.lang.String)
+         * @see Modules#getMessageJavaModifierName(java.lang.String, java.lang.String)
+         */
+        public String getJavaModifierName()
+        {
+            return this.javaModifierName;
+        }
+
+        /**
+         * Gets the Java getter method name of the member.
+         *
+         * @return The Java getter method name of the member.
+         */
+        public JavaIdentifier getJavaGetterMethodName()
+        {
+            return this.javaGetterMethodName;
+        }
+
+        /**
+         * Gets the Java setter method name of the member.
+         *
+         * @return The Java setter method name of the member.
+         */
+        public JavaIdentifier getJavaSetterMethodName()
+        {
+            return this.javaSetterMethodName;
+        }
+
+        /**
+         * Gets the Java variable name of the member.
+         *
+         * @return The Java variable name of the member.
+         */
+        public JavaIdentifier getJavaVariableName()
+        {
+            return this.javaVariableName;
+        }
+
+        /**
+         * Gets the Java constant name of the member.
+         *
+         * @return The Java constant name of the member.
+         */
+        public JavaIdentifier getJavaConstantName()
+        {
+            return this.javaConstantName;
+        }
+
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+/**
+ * Plan for creating objects of an instance compiled for a class loader.
+ * <p>
+ * A plan holds method handles of the constructor and factory method to use for creating objects of an instance, so
+ * that the reflective lookups and checks deciding how to create objects are performed only once.</p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ *
+ * @see Modules#createObject(org.jomc.model.Instance, java.lang.ClassLoader)
+ */
+final class JavaObjectFactory
+{
+
+    /**
+     * Type of method handles creating objects.
+     */
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType( Object.class );
+
+    /**
+     * Type of method handles invoking factory methods.
+     */
+    private static final MethodType FACTORY_METHOD_TYPE = MethodType.methodType( Object.class, Object.class );
+
+    /**
+     * Handle of the constructor to use for creating objects or {@code null}.
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * Handle of the factory method to use for creating objects or {@code null}.
+     */
+    private final MethodHandle factoryMethod;
+
+    /**
+     * Flag indicating the factory method is a static method.
+     */
+    private final boolean staticFactoryMethod;
+
+    private JavaObjectFactory( final MethodHandle constructor, final MethodHandle factoryMethod,
+                               final boolean staticFactoryMethod )
+    {
+        super();
+        this.constructor = constructor;
+        this.factoryMethod = factoryMethod;
+        this.staticFactoryMethod = staticFactoryMethod;
+    }
+
+    /**
+     * Compiles a plan for creating objects of an instance.
+     *
+     * @param javaInstance The metadata of the instance to compile a plan for creating objects of.
+     *
+     * @return A new plan for creating objects of the instance of {@code javaInstance}.
+     *
+     * @throws ClassNotFoundException if a Java class is not found.
+     * @throws ModelObjectException if compiling the name of a referenced type to a {@code JavaTypeName} fails.
+     * @throws IllegalAccessException if access to the constructor or factory method of the instance is denied.
+     */
+    static JavaObjectFactory newInstance( final JavaInstance javaInstance )
+        throws ClassNotFoundException, ModelObjectException, IllegalAccessException
+    {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        final Optional<Constructor<?>> ctor = javaInstance.getJavaConstructor();
+        final MethodHandle constructorHandle =
+            ctor.isPresent() ? lookup.unreflectConstructor( ctor.get() ).asType( CONSTRUCTOR_TYPE ) : null;
+
+        if ( constructorHandle != null && javaInstance.isJavaClassAssignable() )
+        {
+            return new JavaObjectFactory( constructorHandle, null, false );
+        }
+
+        final Optional<Method> method = javaInstance.getJavaFactoryMethod();
+
+        if ( method.isPresent() )
+        {
+            if ( Modifier.isStatic( method.get().getModifiers() ) )
+            {
+                return new JavaObjectFactory( null, MethodHandles.dropArguments(
+                                              lookup.unreflect( method.get() ).asType( CONSTRUCTOR_TYPE ), 0,
+                                              Object.class ), true );
+
+            }
+            else if ( constructorHandle != null )
+            {
+                return new JavaObjectFactory( constructorHandle,
+                                              lookup.unreflect( method.get() ).asType( FACTORY_METHOD_TYPE ), false );
+
+            }
+        }
+
+        return new JavaObjectFactory( null, null, false );
+    }
+
+    /**
+     * Gets a flag indicating objects are created using a factory method.
+     *
+     * @return {@code true}, if objects are created by invoking a factory method; {@code false}, if objects are
+     * created by invoking a constructor.
+     */
+    boolean isFactoryMethod()
+    {
+        return this.factoryMethod != null;
+    }
+
+    /**
+     * Gets a flag indicating objects are created using a static factory method.
+     *
+     * @return {@code true}, if objects are created by invoking a static factory method; {@code false}, if objects
+     * are created by invoking a constructor or an instance factory method.
+     */
+    boolean isStaticFactoryMethod()
+    {
+        return this.staticFactoryMethod;
+    }
+
+    /**
+     * Creates a new object by invoking the constructor of the plan.
+     *
+     * @return A new object or {@code null}, if the plan does not support creating objects using a constructor.
+     *
+     * @throws Throwable if the constructor fails.
+     */
+    Object newObject() throws Throwable
+    {
+        return this.constructor != null ? (Object) this.constructor.invokeExact() : null;
+    }
+
+    /**
+     * Invokes the factory method of the plan.
+     *
+     * @param object The object to invoke the factory method on or {@code null}, if the factory method is static.
+     *
+     * @return The object returned by the factory method or {@code null}.
+     *
+     * @throws Throwable if the factory method fails.
+     */
+    Object invokeFactoryMethod( final Object object ) throws Throwable
+    {
+        return this.factoryMethod != null ? (Object) this.factoryMethod.invokeExact( object ) : null;
+    }
+
+}
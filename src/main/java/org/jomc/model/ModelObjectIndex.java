@@ -0,0 +1,151 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Index of the model objects of a list by name.
+ * <p>
+ * An index is built lazily on first lookup and is rebuilt whenever the indexed list is found to have been replaced,
+ * to have changed in size, or to no longer hold an indexed object at its indexed position under its indexed name.
+ * Successful lookups are hash probes. Lookups not finding an object in the index fall back to searching the list, so
+ * that objects renamed or replaced in place are never missed.</p>
+ *
+ * @param <T> The type of the indexed model objects.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+final class ModelObjectIndex<T>
+{
+
+    /**
+     * Function mapping model objects to the names they are indexed by.
+     */
+    private final Function<T, String> nameFunction;
+
+    /**
+     * The current state of the index or {@code null}.
+     */
+    private volatile State<T> state;
+
+    /**
+     * Creates a new {@code ModelObjectIndex} instance.
+     *
+     * @param nameFunction Function mapping model objects to the names they are indexed by.
+     */
+    ModelObjectIndex( final Function<T, String> nameFunction )
+    {
+        super();
+        this.nameFunction = nameFunction;
+    }
+
+    /**
+     * Gets the first model object of a list with a given name.
+     *
+     * @param list The list to search.
+     * @param name The name of the model object to return.
+     *
+     * @return The first model object of {@code list} with name {@code name} or no value, if no such model object is
+     * found.
+     */
+    Optional<T> get( final List<T> list, final String name )
+    {
+        State<T> current = this.state;
+
+        if ( current == null || current.list != list || current.size != list.size() )
+        {
+            current = new State<>( list, this.nameFunction );
+            this.state = current;
+        }
+
+        Integer position = current.positions.get( name );
+
+        if ( position != null && !name.equals( this.nameFunction.apply( list.get( position ) ) ) )
+        {
+            current = new State<>( list, this.nameFunction );
+            this.state = current;
+            position = current.positions.get( name );
+        }
+
+        if ( position == null )
+        {
+            // Objects renamed or replaced in place are only detected by probing their former names. Confirm misses
+            // by searching the list, so that lookups never miss an object a linear search would have found.
+            for ( int i = 0, s0 = list.size(); i < s0; i++ )
+            {
+                if ( name.equals( this.nameFunction.apply( list.get( i ) ) ) )
+                {
+                    this.state = new State<>( list, this.nameFunction );
+                    return Optional.of( list.get( i ) );
+                }
+            }
+        }
+
+        return position != null ? Optional.of( list.get( position ) ) : Optional.empty();
+    }
+
+    private static final class State<T>
+    {
+
+        private final List<T> list;
+
+        private final int size;
+
+        private final Map<String, Integer> positions;
+
+        State( final List<T> list, final Function<T, String> nameFunction )
+        {
+            super();
+            this.list = list;
+            this.size = list.size();
+            this.positions = new HashMap<>( this.size * 4 / 3 + 1 );
+
+            for ( int i = 0; i < this.size; i++ )
+            {
+                final String name = nameFunction.apply( list.get( i ) );
+
+                if ( name != null )
+                {
+                    this.positions.putIfAbsent( name, i );
+                }
+            }
+        }
+
+    }
+
+}
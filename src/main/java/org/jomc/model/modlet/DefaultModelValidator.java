@@ -30,11 +30,19 @@
  */
 package org.jomc.model.modlet;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -43,6 +51,8 @@ import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import java.util.stream.Stream;
 import javax.xml.bind.JAXBElement;
@@ -57,6 +67,7 @@ import org.jomc.model.ImplementationReference;
 import org.jomc.model.Implementations;
 import org.jomc.model.Inheritable;
 import org.jomc.model.InheritanceModel;
+import org.jomc.model.JavaClassCache;
 import org.jomc.model.Message;
 import org.jomc.model.MessageReference;
 import org.jomc.model.ModelObjectException;
@@ -172,6 +183,105 @@ public class DefaultModelValidator implements ModelValidator
      */
     private Boolean validateJava;
 
+    /**
+     * Constant for the name of the model context attribute backing property {@code collectMetrics}.
+     *
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String COLLECT_METRICS_ATTRIBUTE_NAME =
+        "org.jomc.model.modlet.DefaultModelValidator.collectMetricsAttribute";
+
+    /**
+     * Constant for the name of the model context attribute the validator stores the {@code ValidationMetrics} of a
+     * validation at, when collecting metrics.
+     *
+     * @see #isCollectMetrics()
+     * @see ValidationMetrics
+     * @since 2.0
+     */
+    public static final String METRICS_ATTRIBUTE_NAME = "org.jomc.model.modlet.DefaultModelValidator.metricsAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultCollectMetrics}.
+     *
+     * @see #isDefaultCollectMetrics()
+     * @since 2.0
+     */
+    private static final String DEFAULT_COLLECT_METRICS_PROPERTY_NAME =
+        "org.jomc.model.modlet.DefaultModelValidator.defaultCollectMetrics";
+
+    /**
+     * Default value of the flag indicating the validator is collecting metrics by default.
+     *
+     * @see #isDefaultCollectMetrics()
+     * @since 2.0
+     */
+    private static final Boolean DEFAULT_COLLECT_METRICS = Boolean.FALSE;
+
+    /**
+     * Flag indicating the validator is collecting metrics by default.
+     *
+     * @since 2.0
+     */
+    private static volatile Boolean defaultCollectMetrics;
+
+    /**
+     * Flag indicating the validator is collecting metrics.
+     *
+     * @since 2.0
+     */
+    private Boolean collectMetrics;
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code includedDetails}.
+     *
+     * @see #getIncludedDetails()
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String INCLUDED_DETAILS_ATTRIBUTE_NAME =
+        "org.jomc.model.modlet.DefaultModelValidator.includedDetailsAttribute";
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code excludedDetails}.
+     *
+     * @see #getExcludedDetails()
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String EXCLUDED_DETAILS_ATTRIBUTE_NAME =
+        "org.jomc.model.modlet.DefaultModelValidator.excludedDetailsAttribute";
+
+    /**
+     * Maps rules to the identifiers of the details they report, including the details reported by the rules they
+     * invoke.
+     *
+     * @since 2.0
+     */
+    private static final Map<String, Set<String>> RULE_DETAIL_IDENTIFIERS = newRuleDetailIdentifiers();
+
+    /**
+     * The identifiers of all details reported by the validator.
+     *
+     * @since 2.0
+     */
+    private static final Set<String> DETAIL_IDENTIFIERS = newDetailIdentifiers( RULE_DETAIL_IDENTIFIERS );
+
+    /**
+     * Identifiers of details to include in a validation.
+     *
+     * @since 2.0
+     */
+    private Set<String> includedDetails;
+
+    /**
+     * Identifiers of details to exclude from a validation.
+     *
+     * @since 2.0
+     */
+    private Set<String> excludedDetails;
+
     /**
      * Creates a new {@code DefaultModelValidator} instance.
      */
@@ -330,6 +440,151 @@ public class DefaultModelValidator implements ModelValidator
         this.validateJava = value;
     }
 
+    /**
+     * Gets a flag indicating the validator is collecting metrics by default.
+     * <p>
+     * The default collect metrics flag is controlled by system property
+     * {@code org.jomc.model.modlet.DefaultModelValidator.defaultCollectMetrics} holding a value indicating the
+     * validator is collecting metrics by default. If that property is not set, the {@code false} default is returned.
+     * </p>
+     *
+     * @return {@code true}, if the validator is collecting metrics by default; {@code false}, if the validator is not
+     * collecting metrics by default.
+     *
+     * @see #setDefaultCollectMetrics(java.lang.Boolean)
+     *
+     * @since 2.0
+     */
+    public static boolean isDefaultCollectMetrics()
+    {
+        if ( defaultCollectMetrics == null )
+        {
+            defaultCollectMetrics = Boolean.valueOf( System.getProperty(
+                DEFAULT_COLLECT_METRICS_PROPERTY_NAME, Boolean.toString( DEFAULT_COLLECT_METRICS ) ) );
+
+        }
+
+        return defaultCollectMetrics;
+    }
+
+    /**
+     * Sets the flag indicating the validator is collecting metrics by default.
+     *
+     * @param value The new value of the flag indicating the validator is collecting metrics by default or
+     * {@code null}.
+     *
+     * @see #isDefaultCollectMetrics()
+     *
+     * @since 2.0
+     */
+    public static void setDefaultCollectMetrics( final Boolean value )
+    {
+        defaultCollectMetrics = value;
+    }
+
+    /**
+     * Gets a flag indicating the validator is collecting metrics.
+     * <p>
+     * When collecting metrics, the validator measures invocation counts, wall clock and CPU times and allocations of
+     * its rules and counts the details it reports. The {@code ValidationMetrics} of a validation are stored at the
+     * {@link #METRICS_ATTRIBUTE_NAME} attribute of the model context used for the validation. When not collecting
+     * metrics, no measurements are taken.
+     * </p>
+     *
+     * @return {@code true}, if the validator is collecting metrics; {@code false}, if the validator is not collecting
+     * metrics.
+     *
+     * @see #isDefaultCollectMetrics()
+     * @see #setCollectMetrics(java.lang.Boolean)
+     *
+     * @since 2.0
+     */
+    public final boolean isCollectMetrics()
+    {
+        if ( this.collectMetrics == null )
+        {
+            this.collectMetrics = isDefaultCollectMetrics();
+        }
+
+        return this.collectMetrics;
+    }
+
+    /**
+     * Sets the flag indicating the validator is collecting metrics.
+     *
+     * @param value The new value of the flag indicating the validator is collecting metrics or {@code null}.
+     *
+     * @see #isCollectMetrics()
+     *
+     * @since 2.0
+     */
+    public final void setCollectMetrics( final Boolean value )
+    {
+        this.collectMetrics = value;
+    }
+
+    /**
+     * Gets the identifiers of the details to include in a validation.
+     * <p>
+     * This accessor method returns a reference to the live set, not a snapshot. Therefore any modification you make
+     * to the returned set will be present inside the object.
+     * </p>
+     * <p>
+     * If this set is empty, the identifiers are taken from the {@link #INCLUDED_DETAILS_ATTRIBUTE_NAME} attribute of
+     * the model context used for a validation. That attribute may hold either a {@code java.util.Collection} of
+     * identifiers or a {@code String} of identifiers separated by commas or whitespace. If no identifiers are given,
+     * all details are included. Rules reporting only details not included are not executed and the data structures
+     * they alone need are not built.
+     * </p>
+     *
+     * @return The identifiers of the details to include in a validation.
+     *
+     * @see #getExcludedDetails()
+     * @see ModelValidationReport.Detail#getIdentifier()
+     *
+     * @since 2.0
+     */
+    public final Set<String> getIncludedDetails()
+    {
+        if ( this.includedDetails == null )
+        {
+            this.includedDetails = new CopyOnWriteArraySet<>();
+        }
+
+        return this.includedDetails;
+    }
+
+    /**
+     * Gets the identifiers of the details to exclude from a validation.
+     * <p>
+     * This accessor method returns a reference to the live set, not a snapshot. Therefore any modification you make
+     * to the returned set will be present inside the object.
+     * </p>
+     * <p>
+     * If this set is empty, the identifiers are taken from the {@link #EXCLUDED_DETAILS_ATTRIBUTE_NAME} attribute of
+     * the model context used for a validation. That attribute may hold either a {@code java.util.Collection} of
+     * identifiers or a {@code String} of identifiers separated by commas or whitespace. Exclusions take precedence
+     * over inclusions. Rules reporting only excluded details are not executed and the data structures they alone need
+     * are not built.
+     * </p>
+     *
+     * @return The identifiers of the details to exclude from a validation.
+     *
+     * @see #getIncludedDetails()
+     * @see ModelValidationReport.Detail#getIdentifier()
+     *
+     * @since 2.0
+     */
+    public final Set<String> getExcludedDetails()
+    {
+        if ( this.excludedDetails == null )
+        {
+            this.excludedDetails = new CopyOnWriteArraySet<>();
+        }
+
+        return this.excludedDetails;
+    }
+
     @Override
     public Optional<ModelValidationReport> validateModel( final ModelContext context, final Model model )
         throws ModelException
@@ -359,6 +614,27 @@ public class DefaultModelValidator implements ModelValidator
             }
         }
 
+        boolean contextCollectMetrics = this.isCollectMetrics();
+        if ( DEFAULT_COLLECT_METRICS == contextCollectMetrics )
+        {
+            final Optional<Object> collectMetricsAttribute = context.getAttribute( COLLECT_METRICS_ATTRIBUTE_NAME );
+
+            if ( collectMetricsAttribute.isPresent() && collectMetricsAttribute.get() instanceof Boolean )
+            {
+                contextCollectMetrics = (Boolean) collectMetricsAttribute.get();
+            }
+        }
+
+        final Set<String> contextIncludedDetails =
+            getDetailIdentifiers( context, this.getIncludedDetails(), INCLUDED_DETAILS_ATTRIBUTE_NAME );
+
+        final Set<String> contextExcludedDetails =
+            getDetailIdentifiers( context, this.getExcludedDetails(), EXCLUDED_DETAILS_ATTRIBUTE_NAME );
+
+        final DetailFilter detailFilter = contextIncludedDetails.isEmpty() && contextExcludedDetails.isEmpty()
+                                              ? null
+                                              : new DetailFilter( contextIncludedDetails, contextExcludedDetails );
+
         try
         {
             ModelValidationReport report = new ModelValidationReport();
@@ -374,12 +650,64 @@ public class DefaultModelValidator implements ModelValidator
 
                 if ( modules.isPresent() )
                 {
-                    final ValidationContext validationContext =
-                        new ValidationContext( context, modules.get(), report, contextValidateJava );
+                    final MetricsCollector metrics = contextCollectMetrics ? new MetricsCollector() : null;
+                    final ValidationContext validationContext = new ValidationContext(
+                        context, modules.get(), report, contextValidateJava, metrics, detailFilter );
+
+                    if ( validationContext.isRuleEnabled( "assertModulesValid" ) )
+                    {
+                        final Probe probe = validationContext.startRule( "assertModulesValid" );
+
+                        try
+                        {
+                            assertModulesValid( validationContext );
+                        }
+                        finally
+                        {
+                            validationContext.stopRule( probe );
+                        }
+                    }
+
+                    if ( validationContext.isRuleEnabled( "assertSpecificationsValid" ) )
+                    {
+                        final Probe probe = validationContext.startRule( "assertSpecificationsValid" );
+
+                        try
+                        {
+                            assertSpecificationsValid( validationContext );
+                        }
+                        finally
+                        {
+                            validationContext.stopRule( probe );
+                        }
+                    }
+
+                    if ( validationContext.isRuleEnabled( "assertImplementationsValid" ) )
+                    {
+                        final Probe probe = validationContext.startRule( "assertImplementationsValid" );
+
+                        try
+                        {
+                            assertImplementationsValid( validationContext );
+                        }
+                        finally
+                        {
+                            validationContext.stopRule( probe );
+                        }
+                    }
+
+                    if ( detailFilter != null )
+                    {
+                        // Rules report details of multiple identifiers. Removes all details not selected.
+                        report.getDetails().removeIf( d  -> DETAIL_IDENTIFIERS.contains( d.getIdentifier() )
+                                                                && !detailFilter.isDetailEnabled( d.getIdentifier() ) );
+
+                    }
 
-                    assertModulesValid( validationContext );
-                    assertSpecificationsValid( validationContext );
-                    assertImplementationsValid( validationContext );
+                    if ( metrics != null )
+                    {
+                        context.setAttribute( METRICS_ATTRIBUTE_NAME, metrics.getMetrics( report ) );
+                    }
                 }
             }
             else if ( context.isLoggable( Level.FINER ) )
@@ -412,7 +740,19 @@ public class DefaultModelValidator implements ModelValidator
     {
         try ( final Stream<Module> st0 = validationContext.getModules().getModule().parallelStream().unordered() )
         {
-            st0.forEach( m  -> assertModuleValid( m, validationContext ) );
+            st0.forEach( m  ->
+            {
+                final Probe probe = validationContext.startRule( "assertModuleValid" );
+
+                try
+                {
+                    assertModuleValid( m, validationContext );
+                }
+                finally
+                {
+                    validationContext.stopRule( probe );
+                }
+            } );
         }
     }
 
@@ -831,7 +1171,8 @@ public class DefaultModelValidator implements ModelValidator
 
                         try
                         {
-                            p.getJavaValue( validationContext.getModelContext().getClassLoader() );
+                            p.getJavaValue( validationContext.getModelContext().getClassLoader(),
+                                            validationContext.getJavaClassCache() );
                         }
                         catch ( final ModelObjectException e )
                         {
@@ -1046,97 +1387,256 @@ public class DefaultModelValidator implements ModelValidator
                             } );
                         }
 
-                        try ( final Stream<ImplementationReference> st1 = impl.getImplementations().getReference().
-                            parallelStream().unordered() )
+                        if ( validationContext.isRuleEnabled( "assertValidImplementationReference" ) )
                         {
-                            st1.forEach( r  -> assertValidImplementationReference( validationContext, impl, r ) );
+                            try ( final Stream<ImplementationReference> st1 = impl.getImplementations().getReference().
+                                parallelStream().unordered() )
+                            {
+                                st1.forEach( r  ->
+                                {
+                                    final Probe probe =
+                                        validationContext.startRule( "assertValidImplementationReference" );
+
+                                    try
+                                    {
+                                        assertValidImplementationReference( validationContext, impl, r );
+                                    }
+                                    finally
+                                    {
+                                        validationContext.stopRule( probe );
+                                    }
+                                } );
+                            }
                         }
                     }
 
                     if ( impl.getDependencies() != null )
                     {
-                        try ( final Stream<Dependency> st1 = impl.getDependencies().getDependency().parallelStream().
-                            unordered() )
+                        if ( validationContext.isRuleEnabled( "assertValidDependency" ) )
                         {
-                            st1.forEach( d  -> assertValidDependency( validationContext, impl, d ) );
-                        }
-                    }
-
-                    assertUniqueDependencies( validationContext, impl );
+                            try ( final Stream<Dependency> st1 =
+                                impl.getDependencies().getDependency().parallelStream().unordered() )
+                            {
+                                st1.forEach( d  ->
+                                {
+                                    final Probe probe = validationContext.startRule( "assertValidDependency" );
 
-                    if ( impl.getMessages() != null )
-                    {
-                        try ( final Stream<Message> st1 = impl.getMessages().getMessage().parallelStream().unordered() )
-                        {
-                            st1.forEach( m  -> assertValidMessage( validationContext, impl, m ) );
-                        }
-                        try ( final Stream<MessageReference> st1 = impl.getMessages().getReference().parallelStream().
-                            unordered() )
-                        {
-                            st1.forEach( r  -> assertValidMessageReference( validationContext, impl, r ) );
+                                    try
+                                    {
+                                        assertValidDependency( validationContext, impl, d );
+                                    }
+                                    finally
+                                    {
+                                        validationContext.stopRule( probe );
+                                    }
+                                } );
+                            }
                         }
                     }
 
-                    assertUniqueMessages( validationContext, impl );
-
-                    if ( impl.getProperties() != null )
+                    if ( validationContext.isRuleEnabled( "assertUniqueDependencies" ) )
                     {
-                        try ( final Stream<Property> st1 = impl.getProperties().getProperty().parallelStream().
-                            unordered() )
+                        final Probe probe = validationContext.startRule( "assertUniqueDependencies" );
+
+                        try
                         {
-                            st1.forEach( p  -> assertValidProperty( validationContext, impl, p ) );
+                            assertUniqueDependencies( validationContext, impl );
                         }
-                        try ( final Stream<PropertyReference> st1 = impl.getProperties().getReference().
-                            parallelStream() )
+                        finally
                         {
-                            st1.forEach( r  -> assertValidPropertyReference( validationContext, impl, r ) );
+                            validationContext.stopRule( probe );
                         }
                     }
 
-                    assertUniqueProperties( validationContext, impl );
-
-                    if ( impl.getSpecifications() != null )
+                    if ( impl.getMessages() != null )
                     {
-                        try ( final Stream<Specification> st1 = impl.getSpecifications().getSpecification().
-                            parallelStream().unordered() )
+                        if ( validationContext.isRuleEnabled( "assertValidMessage" ) )
                         {
-                            st1.forEach( s  ->
+                            try ( final Stream<Message> st1 =
+                                impl.getMessages().getMessage().parallelStream().unordered() )
                             {
-                                addDetail( validationContext.getReport(),
-                                           "IMPLEMENTATION_SPECIFICATION_DECLARATION_CONSTRAINT",
-                                           Level.SEVERE, new ObjectFactory().createImplementation( impl ),
-                                           "implementationSpecificationDeclarationConstraint", impl.getIdentifier(),
-                                           moduleOfImpl.getName(), s.getIdentifier() );
+                                st1.forEach( m  ->
+                                {
+                                    final Probe probe = validationContext.startRule( "assertValidMessage" );
 
-                            } );
+                                    try
+                                    {
+                                        assertValidMessage( validationContext, impl, m );
+                                    }
+                                    finally
+                                    {
+                                        validationContext.stopRule( probe );
+                                    }
+                                } );
+                            }
                         }
-
-                        try ( final Stream<SpecificationReference> st1 = impl.getSpecifications().getReference().
-                            parallelStream().unordered() )
+                        if ( validationContext.isRuleEnabled( "assertValidMessageReference" ) )
                         {
-                            st1.forEach( r  -> assertValidSpecificationReference( validationContext, impl, r ) );
+                            try ( final Stream<MessageReference> st1 =
+                                impl.getMessages().getReference().parallelStream().unordered() )
+                            {
+                                st1.forEach( r  ->
+                                {
+                                    final Probe probe = validationContext.startRule( "assertValidMessageReference" );
+
+                                    try
+                                    {
+                                        assertValidMessageReference( validationContext, impl, r );
+                                    }
+                                    finally
+                                    {
+                                        validationContext.stopRule( probe );
+                                    }
+                                } );
+                            }
                         }
                     }
 
-                    if ( !impl.getAny().isEmpty() )
+                    if ( validationContext.isRuleEnabled( "assertUniqueMessages" ) )
                     {
-                        try ( final Stream<?> st1 = impl.getAny().parallelStream() )
+                        final Probe probe = validationContext.startRule( "assertUniqueMessages" );
+
+                        try
                         {
-                            st1.forEach( any  -> assertValidAnyObject( validationContext, impl, any ) );
+                            assertUniqueMessages( validationContext, impl );
+                        }
+                        finally
+                        {
+                            validationContext.stopRule( probe );
                         }
                     }
 
-                    final Set<String> specificationReferenceIdentifiers =
-                        imodel.getSpecificationReferenceIdentifiers( impl.getIdentifier() );
-
-                    try ( final Stream<String> st1 = specificationReferenceIdentifiers.parallelStream().unordered() )
+                    if ( impl.getProperties() != null )
                     {
-                        st1.forEach( r  ->
+                        if ( validationContext.isRuleEnabled( "assertValidProperty" ) )
                         {
-                            final Set<InheritanceModel.Node<SpecificationReference>> specificationReferenceNodes =
-                                imodel.getSpecificationReferenceNodes( impl.getIdentifier(), r );
-
-                            if ( specificationReferenceNodes.size() > 1 )
+                            try ( final Stream<Property> st1 = impl.getProperties().getProperty().parallelStream().
+                                unordered() )
+                            {
+                                st1.forEach( p  ->
+                                {
+                                    final Probe probe = validationContext.startRule( "assertValidProperty" );
+
+                                    try
+                                    {
+                                        assertValidProperty( validationContext, impl, p );
+                                    }
+                                    finally
+                                    {
+                                        validationContext.stopRule( probe );
+                                    }
+                                } );
+                            }
+                        }
+                        if ( validationContext.isRuleEnabled( "assertValidPropertyReference" ) )
+                        {
+                            try ( final Stream<PropertyReference> st1 = impl.getProperties().getReference().
+                                parallelStream() )
+                            {
+                                st1.forEach( r  ->
+                                {
+                                    final Probe probe = validationContext.startRule( "assertValidPropertyReference" );
+
+                                    try
+                                    {
+                                        assertValidPropertyReference( validationContext, impl, r );
+                                    }
+                                    finally
+                                    {
+                                        validationContext.stopRule( probe );
+                                    }
+                                } );
+                            }
+                        }
+                    }
+
+                    if ( validationContext.isRuleEnabled( "assertUniqueProperties" ) )
+                    {
+                        final Probe probe = validationContext.startRule( "assertUniqueProperties" );
+
+                        try
+                        {
+                            assertUniqueProperties( validationContext, impl );
+                        }
+                        finally
+                        {
+                            validationContext.stopRule( probe );
+                        }
+                    }
+
+                    if ( impl.getSpecifications() != null )
+                    {
+                        try ( final Stream<Specification> st1 = impl.getSpecifications().getSpecification().
+                            parallelStream().unordered() )
+                        {
+                            st1.forEach( s  ->
+                            {
+                                addDetail( validationContext.getReport(),
+                                           "IMPLEMENTATION_SPECIFICATION_DECLARATION_CONSTRAINT",
+                                           Level.SEVERE, new ObjectFactory().createImplementation( impl ),
+                                           "implementationSpecificationDeclarationConstraint", impl.getIdentifier(),
+                                           moduleOfImpl.getName(), s.getIdentifier() );
+
+                            } );
+                        }
+
+                        if ( validationContext.isRuleEnabled( "assertValidSpecificationReference" ) )
+                        {
+                            try ( final Stream<SpecificationReference> st1 = impl.getSpecifications().getReference().
+                                parallelStream().unordered() )
+                            {
+                                st1.forEach( r  ->
+                                {
+                                    final Probe probe =
+                                        validationContext.startRule( "assertValidSpecificationReference" );
+
+                                    try
+                                    {
+                                        assertValidSpecificationReference( validationContext, impl, r );
+                                    }
+                                    finally
+                                    {
+                                        validationContext.stopRule( probe );
+                                    }
+                                } );
+                            }
+                        }
+                    }
+
+                    if ( !impl.getAny().isEmpty() )
+                    {
+                        if ( validationContext.isRuleEnabled( "assertValidAnyObject" ) )
+                        {
+                            try ( final Stream<?> st1 = impl.getAny().parallelStream() )
+                            {
+                                st1.forEach( any  ->
+                                {
+                                    final Probe probe = validationContext.startRule( "assertValidAnyObject" );
+
+                                    try
+                                    {
+                                        assertValidAnyObject( validationContext, impl, any );
+                                    }
+                                    finally
+                                    {
+                                        validationContext.stopRule( probe );
+                                    }
+                                } );
+                            }
+                        }
+                    }
+
+                    final Set<String> specificationReferenceIdentifiers =
+                        imodel.getSpecificationReferenceIdentifiers( impl.getIdentifier() );
+
+                    try ( final Stream<String> st1 = specificationReferenceIdentifiers.parallelStream().unordered() )
+                    {
+                        st1.forEach( r  ->
+                        {
+                            final Set<InheritanceModel.Node<SpecificationReference>> specificationReferenceNodes =
+                                imodel.getSpecificationReferenceNodes( impl.getIdentifier(), r );
+
+                            if ( specificationReferenceNodes.size() > 1 )
                             {
                                 addDetail( validationContext.getReport(),
                                            "IMPLEMENTATION_SPECIFICATION_MULTIPLE_INHERITANCE_CONSTRAINT",
@@ -1149,7 +1649,20 @@ public class DefaultModelValidator implements ModelValidator
                         } );
                     }
 
-                    assertImplementationSpecificationCompatibility( validationContext, impl );
+                    if ( validationContext.isRuleEnabled( "assertImplementationSpecificationCompatibility" ) )
+                    {
+                        final Probe probe =
+                            validationContext.startRule( "assertImplementationSpecificationCompatibility" );
+
+                        try
+                        {
+                            assertImplementationSpecificationCompatibility( validationContext, impl );
+                        }
+                        finally
+                        {
+                            validationContext.stopRule( probe );
+                        }
+                    }
 
                     final Set<QName> xmlElementNames = imodel.getXmlElementNames( impl.getIdentifier() );
 
@@ -1472,7 +1985,19 @@ public class DefaultModelValidator implements ModelValidator
             }
         }
 
-        assertDependencyValid( validationContext, impl, d );
+        if ( validationContext.isRuleEnabled( "assertDependencyValid" ) )
+        {
+            final Probe probe = validationContext.startRule( "assertDependencyValid" );
+
+            try
+            {
+                assertDependencyValid( validationContext, impl, d );
+            }
+            finally
+            {
+                validationContext.stopRule( probe );
+            }
+        }
     }
 
     private static void assertValidImplementationReference( final ValidationContext validationContext,
@@ -2095,7 +2620,8 @@ public class DefaultModelValidator implements ModelValidator
 
             try
             {
-                p.getJavaValue( validationContext.getModelContext().getClassLoader() );
+                p.getJavaValue( validationContext.getModelContext().getClassLoader(),
+                                validationContext.getJavaClassCache() );
             }
             catch ( final ModelObjectException e )
             {
@@ -3198,7 +3724,8 @@ public class DefaultModelValidator implements ModelValidator
 
                                     try
                                     {
-                                        p.getJavaValue( validationContext.getModelContext().getClassLoader() );
+                                        p.getJavaValue( validationContext.getModelContext().getClassLoader(),
+                                                        validationContext.getJavaClassCache() );
                                     }
                                     catch ( final ModelObjectException e )
                                     {
@@ -3785,7 +4312,8 @@ public class DefaultModelValidator implements ModelValidator
 
                         try
                         {
-                            p.getJavaValue( validationContext.getModelContext().getClassLoader() );
+                            p.getJavaValue( validationContext.getModelContext().getClassLoader(),
+                                            validationContext.getJavaClassCache() );
                         }
                         catch ( final ModelObjectException e )
                         {
@@ -4252,7 +4780,16 @@ public class DefaultModelValidator implements ModelValidator
                         }
                     }
 
-                    assertDependencyValid( validationContext, implementation, d );
+                    final Probe probe = validationContext.startRule( "assertDependencyValid" );
+
+                    try
+                    {
+                        assertDependencyValid( validationContext, implementation, d );
+                    }
+                    finally
+                    {
+                        validationContext.stopRule( probe );
+                    }
                 } );
             }
         }
@@ -4438,6 +4975,281 @@ public class DefaultModelValidator implements ModelValidator
         return set;
     }
 
+    private static Set<String> getDetailIdentifiers( final ModelContext context, final Set<String> identifiers,
+                                                     final String attributeName )
+    {
+        final Set<String> detailIdentifiers = new HashSet<>( identifiers );
+
+        if ( detailIdentifiers.isEmpty() )
+        {
+            final Optional<Object> attribute = context.getAttribute( attributeName );
+
+            if ( attribute.isPresent() )
+            {
+                if ( attribute.get() instanceof Collection<?> )
+                {
+                    for ( final Object identifier : (Collection<?>) attribute.get() )
+                    {
+                        if ( identifier != null )
+                        {
+                            detailIdentifiers.add( identifier.toString().trim() );
+                        }
+                    }
+                }
+                else if ( attribute.get() instanceof String )
+                {
+                    for ( final String identifier : ( (String) attribute.get() ).split( "[\\s,]+" ) )
+                    {
+                        if ( identifier.length() > 0 )
+                        {
+                            detailIdentifiers.add( identifier );
+                        }
+                    }
+                }
+            }
+        }
+
+        return detailIdentifiers;
+    }
+
+    private static Map<String, Set<String>> newRuleDetailIdentifiers()
+    {
+        final Map<String, Set<String>> map = new HashMap<>( 32 );
+
+        addRuleDetailIdentifiers( map, "assertModuleValid",
+                                  "MODULE_FINAL_MESSAGE_DECLARATION_CONSTRAINT",
+                                  "MODULE_FINAL_PROPERTY_DECLARATION_CONSTRAINT",
+                                  "MODULE_IMPLEMENTATION_REFERENCE_DECLARATION_CONSTRAINT",
+                                  "MODULE_MESSAGE_ARGUMENT_JAVA_TYPE_NAME_CONSTRAINT",
+                                  "MODULE_MESSAGE_ARGUMENT_JAVA_VARIABLE_NAME_CONSTRAINT",
+                                  "MODULE_MESSAGE_ARGUMENT_JAVA_VARIABLE_NAME_UNIQUENESS_CONSTRAINT",
+                                  "MODULE_MESSAGE_JAVA_CONSTANT_NAME_CONSTRAINT",
+                                  "MODULE_MESSAGE_JAVA_GETTER_METHOD_NAME_CONSTRAINT",
+                                  "MODULE_MESSAGE_JAVA_SETTER_METHOD_NAME_CONSTRAINT",
+                                  "MODULE_MESSAGE_JAVA_VARIABLE_NAME_CONSTRAINT",
+                                  "MODULE_MESSAGE_REFERENCE_DECLARATION_CONSTRAINT",
+                                  "MODULE_MESSAGE_TEMPLATE_CONSTRAINT",
+                                  "MODULE_MESSAGE_TEMPLATE_MIME_TYPE_CONSTRAINT",
+                                  "MODULE_OVERRIDE_MESSAGE_DECLARATION_CONSTRAINT",
+                                  "MODULE_OVERRIDE_PROPERTY_DECLARATION_CONSTRAINT",
+                                  "MODULE_PROPERTY_JAVA_CONSTANT_NAME_CONSTRAINT",
+                                  "MODULE_PROPERTY_JAVA_GETTER_METHOD_NAME_CONSTRAINT",
+                                  "MODULE_PROPERTY_JAVA_SETTER_METHOD_NAME_CONSTRAINT",
+                                  "MODULE_PROPERTY_JAVA_TYPE_NAME_CONSTRAINT",
+                                  "MODULE_PROPERTY_JAVA_VALUE_CONSTRAINT",
+                                  "MODULE_PROPERTY_JAVA_VARIABLE_NAME_CONSTRAINT",
+                                  "MODULE_PROPERTY_REFERENCE_DECLARATION_CONSTRAINT",
+                                  "MODULE_PROPERTY_TYPE_CONSTRAINT",
+                                  "MODULE_PROPERTY_VALUE_CONSTRAINT",
+                                  "MODULE_SPECIFICATION_REFERENCE_DECLARATION_CONSTRAINT" );
+
+        addRuleDetailIdentifiers( map, "assertImplementationsValid",
+                                  "IMPLEMENTATION_ABSTRACT_LOCATION_DECLARATION_CONSTRAINT",
+                                  "IMPLEMENTATION_CLASS_CONSTRAINT",
+                                  "IMPLEMENTATION_CLASS_DECLARATION_CONSTRAINT",
+                                  "IMPLEMENTATION_IMPLEMENTATION_DECLARATION_CONSTRAINT",
+                                  "IMPLEMENTATION_IMPLEMENTATION_INHERITANCE_CONSTRAINT",
+                                  "IMPLEMENTATION_IMPLEMENTATION_VERSIONING_CONSTRAINT",
+                                  "IMPLEMENTATION_INHERITANCE_COMPATIBILITY_CONSTRAINT",
+                                  "IMPLEMENTATION_INHERITANCE_COMPATIBILITY_VERSIONING_PARSE_EXCEPTION",
+                                  "IMPLEMENTATION_INHERITANCE_COMPATIBILITY_VERSIONING_TOKEN_MANAGER_ERROR",
+                                  "IMPLEMENTATION_INHERITANCE_CYCLE_CONSTRAINT",
+                                  "IMPLEMENTATION_JAVA_CLASS_DECLARATION_CONSTRAINT",
+                                  "IMPLEMENTATION_JAVA_TYPE_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_JAXB_ELEMENT_MULTIPLE_INHERITANCE_CONSTRAINT",
+                                  "IMPLEMENTATION_SPECIFICATION_DECLARATION_CONSTRAINT",
+                                  "IMPLEMENTATION_SPECIFICATION_MULTIPLE_INHERITANCE_CONSTRAINT",
+                                  "IMPLEMENTATION_XML_ELEMENT_MULTIPLE_INHERITANCE_CONSTRAINT" );
+
+        addRuleDetailIdentifiers( map, "assertValidDependency",
+                                  "IMPLEMENTATION_DEPENDENCY_INHERITANCE_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_JAVA_CONSTANT_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_JAVA_GETTER_METHOD_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_JAVA_SETTER_METHOD_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_JAVA_VARIABLE_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_OVERRIDE_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_OVERRIDE_WARNING" );
+
+        addRuleDetailIdentifiers( map, "assertValidImplementationReference",
+                                  "IMPLEMENTATION_IMPLEMENTATION_OVERRIDE_CONSTRAINT",
+                                  "IMPLEMENTATION_IMPLEMENTATION_REFERENCE_INHERITANCE_CONSTRAINT",
+                                  "IMPLEMENTATION_IMPLEMENTATION_REFERENCE_OVERRIDE_WARNING" );
+
+        addRuleDetailIdentifiers( map, "assertValidMessage",
+                                  "IMPLEMENTATION_MESSAGES_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_ARGUMENT_JAVA_TYPE_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_ARGUMENT_JAVA_VARIABLE_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_ARGUMENT_JAVA_VARIABLE_NAME_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_INHERITANCE_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_JAVA_CONSTANT_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_JAVA_GETTER_METHOD_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_JAVA_SETTER_METHOD_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_JAVA_VARIABLE_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_OVERRIDE_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_OVERRIDE_WARNING",
+                                  "IMPLEMENTATION_MESSAGE_TEMPLATE_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_TEMPLATE_MIME_TYPE_CONSTRAINT" );
+
+        addRuleDetailIdentifiers( map, "assertValidMessageReference",
+                                  "IMPLEMENTATION_MESSAGE_INHERITANCE_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_OVERRIDE_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_OVERRIDE_WARNING" );
+
+        addRuleDetailIdentifiers( map, "assertValidProperty",
+                                  "IMPLEMENTATION_PROPERTIES_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_INHERITANCE_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_JAVA_CONSTANT_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_JAVA_GETTER_METHOD_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_JAVA_SETTER_METHOD_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_JAVA_TYPE_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_JAVA_VALUE_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_JAVA_VARIABLE_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_OVERRIDE_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_OVERRIDE_WARNING",
+                                  "IMPLEMENTATION_PROPERTY_TYPE_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_VALUE_CONSTRAINT" );
+
+        addRuleDetailIdentifiers( map, "assertValidPropertyReference",
+                                  "IMPLEMENTATION_PROPERTY_INHERITANCE_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_OVERRIDE_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_OVERRIDE_WARNING" );
+
+        addRuleDetailIdentifiers( map, "assertValidSpecificationReference",
+                                  "IMPLEMENTATION_SPECIFICATION_INHERITANCE_CONSTRAINT",
+                                  "IMPLEMENTATION_SPECIFICATION_OVERRIDE_CONSTRAINT",
+                                  "IMPLEMENTATION_SPECIFICATION_REFERENCE_OVERRIDE_WARNING" );
+
+        addRuleDetailIdentifiers( map, "assertValidAnyObject",
+                                  "IMPLEMENTATION_JAXB_ELEMENT_INHERITANCE_CONSTRAINT",
+                                  "IMPLEMENTATION_JAXB_ELEMENT_OVERRIDE_CONSTRAINT",
+                                  "IMPLEMENTATION_JAXB_ELEMENT_OVERRIDE_WARNING" );
+
+        addRuleDetailIdentifiers( map, "assertUniqueDependencies",
+                                  "IMPLEMENTATION_DEPENDENCY_JAVA_CONSTANT_NAME_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_JAVA_GETTER_METHOD_NAME_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_JAVA_SETTER_METHOD_NAME_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_JAVA_VARIABLE_NAME_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_MULTIPLE_INHERITANCE_CONSTRAINT" );
+
+        addRuleDetailIdentifiers( map, "assertUniqueMessages",
+                                  "IMPLEMENTATION_MESSAGE_JAVA_CONSTANT_NAME_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_JAVA_GETTER_METHOD_NAME_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_JAVA_SETTER_METHOD_NAME_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_JAVA_VARIABLE_NAME_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_MESSAGE_MULTIPLE_INHERITANCE_CONSTRAINT" );
+
+        addRuleDetailIdentifiers( map, "assertUniqueProperties",
+                                  "IMPLEMENTATION_PROPERTY_JAVA_CONSTANT_NAME_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_JAVA_GETTER_METHOD_NAME_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_JAVA_SETTER_METHOD_NAME_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_JAVA_VARIABLE_NAME_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_PROPERTY_MULTIPLE_INHERITANCE_CONSTRAINT" );
+
+        addRuleDetailIdentifiers( map, "assertSpecificationsValid",
+                                  "SPECIFICATION_CLASS_CONSTRAINT",
+                                  "SPECIFICATION_CLASS_DECLARATION_CONSTRAINT",
+                                  "SPECIFICATION_IMPLEMENTATION_MULTIPLICITY_CONSTRAINT",
+                                  "SPECIFICATION_IMPLEMENTATION_NAME_UNIQUENESS_CONSTRAINT",
+                                  "SPECIFICATION_JAVA_CLASS_DECLARATION_CONSTRAINT",
+                                  "SPECIFICATION_JAVA_TYPE_NAME_CONSTRAINT",
+                                  "SPECIFICATION_PROPERTY_JAVA_CONSTANT_NAME_CONSTRAINT",
+                                  "SPECIFICATION_PROPERTY_JAVA_GETTER_METHOD_NAME_CONSTRAINT",
+                                  "SPECIFICATION_PROPERTY_JAVA_SETTER_METHOD_NAME_CONSTRAINT",
+                                  "SPECIFICATION_PROPERTY_JAVA_TYPE_NAME_CONSTRAINT",
+                                  "SPECIFICATION_PROPERTY_JAVA_VALUE_CONSTRAINT",
+                                  "SPECIFICATION_PROPERTY_JAVA_VARIABLE_NAME_CONSTRAINT",
+                                  "SPECIFICATION_PROPERTY_REFERENCE_DECLARATION_CONSTRAINT",
+                                  "SPECIFICATION_PROPERTY_TYPE_CONSTRAINT",
+                                  "SPECIFICATION_PROPERTY_VALUE_CONSTRAINT" );
+
+        addRuleDetailIdentifiers( map, "assertDependencyValid",
+                                  "IMPLEMENTATION_DEPENDENCY_DEPENDENCIES_OVERRIDE_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_DEPENDENCY_JAVA_CONSTANT_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_DEPENDENCY_JAVA_GETTER_METHOD_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_DEPENDENCY_JAVA_SETTER_METHOD_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_DEPENDENCY_JAVA_VARIABLE_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_FINAL_DEPENDENCY_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_FINAL_MESSAGE_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_FINAL_PROPERTY_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_IMPLEMENTATION_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_MESSAGES_OVERRIDE_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_MESSAGE_ARGUMENT_JAVA_TYPE_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_MESSAGE_ARGUMENT_JAVA_VARIABLE_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_MESSAGE_ARGUMENT_JAVA_VARIABLE_NAME_UNIQUENESS_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_MESSAGE_JAVA_CONSTANT_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_MESSAGE_JAVA_GETTER_METHOD_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_MESSAGE_JAVA_SETTER_METHOD_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_MESSAGE_JAVA_VARIABLE_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_MESSAGE_REFERENCE_DECLARATION_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_MESSAGE_TEMPLATE_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_MESSAGE_TEMPLATE_MIME_TYPE_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_MULTIPLICITY_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_NO_IMPLEMENTATION_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_OPTIONALITY_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_OVERRIDE_DEPENDENCY_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_OVERRIDE_DEPENDENCY_WARNING",
+                                  "IMPLEMENTATION_DEPENDENCY_OVERRIDE_MESSAGE_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_OVERRIDE_MESSAGE_WARNING",
+                                  "IMPLEMENTATION_DEPENDENCY_OVERRIDE_PROPERTY_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_OVERRIDE_PROPERTY_WARNING",
+                                  "IMPLEMENTATION_DEPENDENCY_PROPERTIES_OVERRIDE_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_PROPERTY_JAVA_CONSTANT_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_PROPERTY_JAVA_GETTER_METHOD_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_PROPERTY_JAVA_SETTER_METHOD_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_PROPERTY_JAVA_TYPE_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_PROPERTY_JAVA_VALUE_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_PROPERTY_JAVA_VARIABLE_NAME_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_PROPERTY_REFERENCE_DECLARATION_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_PROPERTY_TYPE_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_PROPERTY_VALUE_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_SCOPE_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_SPECIFICATION_CLASS_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_SPECIFICATION_COMPATIBILITY_CONSTRAINT",
+                                  "IMPLEMENTATION_DEPENDENCY_SPECIFICATION_COMPATIBILITY_VERSIONING_PARSE_EXCEPTION",
+                                  "IMPLEMENTATION_DEPENDENCY_SPECIFICATION_COMPATIBILITY_VERSIONING_TOKEN_MANAGER_ERROR",
+                                  "IMPLEMENTATION_DEPENDENCY_SPECIFICATION_VERSIONING_CONSTRAINT",
+                                  "IMPLEMENTATION_MANDATORY_DEPENDENCY_CONSTRAINT" );
+
+        addRuleDetailIdentifiers( map, "assertImplementationSpecificationCompatibility",
+                                  "IMPLEMENTATION_SPECIFICATION_COMPATIBILITY_CONSTRAINT",
+                                  "IMPLEMENTATION_SPECIFICATION_COMPATIBILITY_VERSIONING_PARSE_EXCEPTION",
+                                  "IMPLEMENTATION_SPECIFICATION_COMPATIBILITY_VERSIONING_TOKEN_MANAGER_ERROR",
+                                  "IMPLEMENTATION_SPECIFICATION_VERSIONING_CONSTRAINT" );
+
+        // Rules invoking other rules.
+        map.get( "assertValidDependency" ).addAll( map.get( "assertDependencyValid" ) );
+        map.put( "assertModulesValid", new HashSet<>( map.get( "assertModuleValid" ) ) );
+
+        for ( final String rule : new String[]
+        {
+            "assertValidImplementationReference", "assertValidDependency", "assertUniqueDependencies",
+            "assertValidMessage", "assertValidMessageReference", "assertUniqueMessages", "assertValidProperty",
+            "assertValidPropertyReference", "assertUniqueProperties", "assertValidSpecificationReference",
+            "assertValidAnyObject", "assertImplementationSpecificationCompatibility"
+        } )
+        {
+            map.get( "assertImplementationsValid" ).addAll( map.get( rule ) );
+        }
+
+        map.replaceAll( ( rule, identifiers )  -> Collections.unmodifiableSet( identifiers ) );
+        return Collections.unmodifiableMap( map );
+    }
+
+    private static void addRuleDetailIdentifiers( final Map<String, Set<String>> map, final String rule,
+                                                  final String... identifiers )
+    {
+        map.computeIfAbsent( rule, k  -> new HashSet<>( identifiers.length * 2 ) ).
+            addAll( Arrays.asList( identifiers ) );
+
+    }
+
+    private static Set<String> newDetailIdentifiers( final Map<String, Set<String>> ruleDetailIdentifiers )
+    {
+        final Set<String> identifiers = new HashSet<>( 512 );
+        ruleDetailIdentifiers.values().forEach( identifiers::addAll );
+        return Collections.unmodifiableSet( identifiers );
+    }
+
     private static String getMessage( final String key, final Object... messageArguments )
     {
         return MessageFormat.format( ResourceBundle.getBundle(
@@ -4467,13 +5279,17 @@ public class DefaultModelValidator implements ModelValidator
 
         private final ModelValidationReport report;
 
-        private final InheritanceModel inheritanceModel;
+        private volatile InheritanceModel inheritanceModel;
 
         private final boolean validateJava;
 
-        private final Specifications allSpecifications;
+        private Specifications allSpecifications;
+
+        private Implementations allImplementations;
 
-        private final Implementations allImplementations;
+        private volatile boolean specificationsIndexed;
+
+        private volatile boolean implementationsIndexed;
 
         private final Map<String, Specification> specifications = new ConcurrentHashMap<>( 1024 );
 
@@ -4487,75 +5303,23 @@ public class DefaultModelValidator implements ModelValidator
 
         private final Map<String, Module> modulesOfImplementations = new ConcurrentHashMap<>( 1024 );
 
+        private final JavaClassCache javaClassCache = new JavaClassCache();
+
+        private final MetricsCollector metrics;
+
+        private final Set<String> enabledRules;
+
         private ValidationContext( final ModelContext modelContext, final Modules modules,
-                                   final ModelValidationReport report, final boolean validateJava )
+                                   final ModelValidationReport report, final boolean validateJava,
+                                   final MetricsCollector metrics, final DetailFilter detailFilter )
         {
             super();
             this.modelContext = modelContext;
+            this.metrics = metrics;
             this.modules = modules;
             this.report = report;
-            this.inheritanceModel = new InheritanceModel( modules );
             this.validateJava = validateJava;
-            this.allImplementations = modules.getImplementations();
-            this.allSpecifications = modules.getSpecifications();
-
-            if ( this.allSpecifications != null )
-            {
-                try ( final Stream<Specification> st0 =
-                    this.allSpecifications.getSpecification().parallelStream().unordered() )
-                {
-                    st0.forEach( s  ->
-                    {
-                        specifications.put( s.getIdentifier(), s );
-
-                        final Optional<Implementations> i = modules.getImplementations( s.getIdentifier() );
-
-                        if ( i.isPresent() )
-                        {
-                            implementationsBySpecification.put( s.getIdentifier(), i.get() );
-                        }
-
-                        final Optional<Module> m = modules.getModuleOfSpecification( s.getIdentifier() );
-
-                        if ( m.isPresent() )
-                        {
-                            modulesOfSpecifications.put( s.getIdentifier(), m.get() );
-                        }
-                    } );
-                }
-            }
-
-            if ( this.allImplementations != null )
-            {
-                try ( final Stream<Implementation> st0 =
-                    this.allImplementations.getImplementation().parallelStream().unordered() )
-                {
-                    st0.forEach( i  ->
-                    {
-                        implementations.put( i.getIdentifier(), i );
-
-                        final Optional<Specifications> s = modules.getSpecifications( i.getIdentifier() );
-
-                        if ( s.isPresent() )
-                        {
-                            specificationsByImplementation.put( i.getIdentifier(), s.get() );
-                        }
-
-                        final Optional<Module> m = modules.getModuleOfImplementation( i.getIdentifier() );
-
-                        if ( m.isPresent() )
-                        {
-                            modulesOfImplementations.put( i.getIdentifier(), m.get() );
-                        }
-
-                        // Prepares the inheritance model for concurrent access.
-                        synchronized ( inheritanceModel )
-                        {
-                            inheritanceModel.getSourceNodes( i.getIdentifier() );
-                        }
-                    } );
-                }
-            }
+            this.enabledRules = detailFilter != null ? detailFilter.getEnabledRules() : null;
         }
 
         private ModelContext getModelContext()
@@ -4575,7 +5339,43 @@ public class DefaultModelValidator implements ModelValidator
 
         private InheritanceModel getInheritanceModel()
         {
-            return this.inheritanceModel;
+            InheritanceModel imodel = this.inheritanceModel;
+
+            if ( imodel == null )
+            {
+                synchronized ( this )
+                {
+                    imodel = this.inheritanceModel;
+
+                    if ( imodel == null )
+                    {
+                        imodel = new InheritanceModel( this.modules, false );
+                        final Implementations allImpls = this.getAllImplementations();
+
+                        if ( allImpls != null )
+                        {
+                            final InheritanceModel m = imodel;
+
+                            try ( final Stream<Implementation> st0 =
+                                allImpls.getImplementation().parallelStream().unordered() )
+                            {
+                                st0.forEach( i  ->
+                                {
+                                    // Prepares the inheritance model for concurrent access.
+                                    synchronized ( m )
+                                    {
+                                        m.getSourceNodes( i.getIdentifier() );
+                                    }
+                                } );
+                            }
+                        }
+
+                        this.inheritanceModel = imodel;
+                    }
+                }
+            }
+
+            return imodel;
         }
 
         private boolean isValidateJava()
@@ -4585,44 +5385,366 @@ public class DefaultModelValidator implements ModelValidator
 
         private Specifications getAllSpecifications()
         {
+            if ( !this.specificationsIndexed )
+            {
+                synchronized ( this.specifications )
+                {
+                    if ( !this.specificationsIndexed )
+                    {
+                        this.allSpecifications = this.modules.getSpecifications();
+
+                        if ( this.allSpecifications != null )
+                        {
+                            try ( final Stream<Specification> st0 =
+                                this.allSpecifications.getSpecification().parallelStream().unordered() )
+                            {
+                                st0.forEach( s  ->
+                                {
+                                    specifications.put( s.getIdentifier(), s );
+
+                                    final Optional<Implementations> i = modules.getImplementations( s.getIdentifier() );
+
+                                    if ( i.isPresent() )
+                                    {
+                                        implementationsBySpecification.put( s.getIdentifier(), i.get() );
+                                    }
+
+                                    final Optional<Module> m = modules.getModuleOfSpecification( s.getIdentifier() );
+
+                                    if ( m.isPresent() )
+                                    {
+                                        modulesOfSpecifications.put( s.getIdentifier(), m.get() );
+                                    }
+                                } );
+                            }
+                        }
+
+                        this.specificationsIndexed = true;
+                    }
+                }
+            }
+
             return this.allSpecifications;
         }
 
         private Implementations getAllImplementations()
         {
+            if ( !this.implementationsIndexed )
+            {
+                synchronized ( this.implementations )
+                {
+                    if ( !this.implementationsIndexed )
+                    {
+                        this.allImplementations = this.modules.getImplementations();
+
+                        if ( this.allImplementations != null )
+                        {
+                            try ( final Stream<Implementation> st0 =
+                                this.allImplementations.getImplementation().parallelStream().unordered() )
+                            {
+                                st0.forEach( i  ->
+                                {
+                                    implementations.put( i.getIdentifier(), i );
+
+                                    final Optional<Specifications> s = modules.getSpecifications( i.getIdentifier() );
+
+                                    if ( s.isPresent() )
+                                    {
+                                        specificationsByImplementation.put( i.getIdentifier(), s.get() );
+                                    }
+
+                                    final Optional<Module> m = modules.getModuleOfImplementation( i.getIdentifier() );
+
+                                    if ( m.isPresent() )
+                                    {
+                                        modulesOfImplementations.put( i.getIdentifier(), m.get() );
+                                    }
+                                } );
+                            }
+                        }
+
+                        this.implementationsIndexed = true;
+                    }
+                }
+            }
+
             return this.allImplementations;
         }
 
         private Specification getSpecification( final String identifier )
         {
+            this.getAllSpecifications();
             return this.specifications.get( identifier );
         }
 
         private Specifications getSpecifications( final String implementation )
         {
+            this.getAllImplementations();
             return this.specificationsByImplementation.get( implementation );
         }
 
         private Implementation getImplementation( final String identifier )
         {
+            this.getAllImplementations();
             return this.implementations.get( identifier );
         }
 
         private Implementations getImplementations( final String specification )
         {
+            this.getAllSpecifications();
             return this.implementationsBySpecification.get( specification );
         }
 
         private Module getModuleOfSpecification( final String identifier )
         {
+            this.getAllSpecifications();
             return this.modulesOfSpecifications.get( identifier );
         }
 
         private Module getModuleOfImplementation( final String identifier )
         {
+            this.getAllImplementations();
             return this.modulesOfImplementations.get( identifier );
         }
 
+        private JavaClassCache getJavaClassCache()
+        {
+            return this.javaClassCache;
+        }
+
+        private boolean isRuleEnabled( final String rule )
+        {
+            return this.enabledRules == null || this.enabledRules.contains( rule );
+        }
+
+        private Probe startRule( final String rule )
+        {
+            return this.metrics != null ? this.metrics.start( rule ) : null;
+        }
+
+        private void stopRule( final Probe probe )
+        {
+            if ( probe != null )
+            {
+                this.metrics.stop( probe );
+            }
+        }
+
+    }
+
+    /**
+     * Measurement of a single rule invocation.
+     *
+     * @since 2.0
+     */
+    private static final class Probe
+    {
+
+        private final String rule;
+
+        private final long wallTimeNanos;
+
+        private final long cpuTimeNanos;
+
+        private final long allocatedBytes;
+
+        private Probe( final String rule, final long wallTimeNanos, final long cpuTimeNanos,
+                       final long allocatedBytes )
+        {
+            super();
+            this.rule = rule;
+            this.wallTimeNanos = wallTimeNanos;
+            this.cpuTimeNanos = cpuTimeNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+    }
+
+    /**
+     * Collects the metrics of a single validation.
+     *
+     * @since 2.0
+     */
+    private static final class MetricsCollector
+    {
+
+        private static final class Counters
+        {
+
+            private final LongAdder invocations = new LongAdder();
+
+            private final LongAdder wallTimeNanos = new LongAdder();
+
+            private final LongAdder cpuTimeNanos = new LongAdder();
+
+            private final LongAdder allocatedBytes = new LongAdder();
+
+        }
+
+        private final long startNanos = System.nanoTime();
+
+        private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+        private final boolean cpuTimeSupported;
+
+        private final MethodHandle threadAllocatedBytes;
+
+        private final Map<String, Counters> counters = new ConcurrentHashMap<>( 32 );
+
+        private MetricsCollector()
+        {
+            super();
+            this.cpuTimeSupported =
+                this.threadMXBean.isCurrentThreadCpuTimeSupported() && this.threadMXBean.isThreadCpuTimeEnabled();
+
+            this.threadAllocatedBytes = getThreadAllocatedBytes( this.threadMXBean );
+        }
+
+        private static MethodHandle getThreadAllocatedBytes( final ThreadMXBean threadMXBean )
+        {
+            // Per-thread allocation counters are an extension of the HotSpot 'com.sun.management' API looked up
+            // reflectively once and bound to a method handle of type '(long)long' not boxing its argument or result.
+            // Virtual machines not providing that extension report allocated bytes as -1.
+            try
+            {
+                final Class<?> extension = Class.forName( "com.sun.management.ThreadMXBean" );
+
+                if ( extension.isInstance( threadMXBean )
+                         && (Boolean) extension.getMethod( "isThreadAllocatedMemorySupported" ).invoke( threadMXBean )
+                         && (Boolean) extension.getMethod( "isThreadAllocatedMemoryEnabled" ).invoke( threadMXBean ) )
+                {
+                    return MethodHandles.publicLookup().unreflect(
+                        extension.getMethod( "getThreadAllocatedBytes", long.class ) ).bindTo( threadMXBean );
+
+                }
+            }
+            catch ( final ReflectiveOperationException | RuntimeException e )
+            {
+                // Not supported.
+            }
+
+            return null;
+        }
+
+        private long getCurrentThreadCpuTime()
+        {
+            return this.cpuTimeSupported ? this.threadMXBean.getCurrentThreadCpuTime() : -1L;
+        }
+
+        private long getCurrentThreadAllocatedBytes()
+        {
+            if ( this.threadAllocatedBytes != null )
+            {
+                try
+                {
+                    return (long) this.threadAllocatedBytes.invokeExact( Thread.currentThread().getId() );
+                }
+                catch ( final RuntimeException e )
+                {
+                    // Not supported.
+                }
+                catch ( final Error e )
+                {
+                    throw e;
+                }
+                catch ( final Throwable t )
+                {
+                    // The method does not declare any checked exceptions.
+                    throw new AssertionError( t );
+                }
+            }
+
+            return -1L;
+        }
+
+        private Probe start( final String rule )
+        {
+            return new Probe( rule, System.nanoTime(), this.getCurrentThreadCpuTime(),
+                              this.getCurrentThreadAllocatedBytes() );
+
+        }
+
+        private void stop( final Probe probe )
+        {
+            final long wallTimeNanos = System.nanoTime() - probe.wallTimeNanos;
+            final long cpuTimeNanos = this.getCurrentThreadCpuTime() - probe.cpuTimeNanos;
+            final long allocatedBytes = this.getCurrentThreadAllocatedBytes() - probe.allocatedBytes;
+            final Counters c = this.counters.computeIfAbsent( probe.rule, k  -> new Counters() );
+
+            c.invocations.increment();
+            c.wallTimeNanos.add( wallTimeNanos );
+            c.cpuTimeNanos.add( cpuTimeNanos );
+            c.allocatedBytes.add( allocatedBytes );
+        }
+
+        private ValidationMetrics getMetrics( final ModelValidationReport report )
+        {
+            final List<ValidationMetrics.Rule> rules = new ArrayList<>( this.counters.size() );
+
+            this.counters.forEach( ( name, c )  ->
+            {
+                rules.add( new ValidationMetrics.Rule(
+                    name, c.invocations.sum(), c.wallTimeNanos.sum(),
+                    this.cpuTimeSupported ? c.cpuTimeNanos.sum() : -1L,
+                    this.threadAllocatedBytes != null ? c.allocatedBytes.sum() : -1L ) );
+
+            } );
+
+            rules.sort( ( r1, r2 )  -> r1.getName().compareTo( r2.getName() ) );
+
+            final Map<String, Long> detailCounts = new HashMap<>( 128 );
+
+            for ( final ModelValidationReport.Detail d : report.getDetails() )
+            {
+                detailCounts.merge( d.getIdentifier(), 1L, Long::sum );
+            }
+
+            return new ValidationMetrics( System.nanoTime() - this.startNanos, rules, detailCounts );
+        }
+
+    }
+
+    /**
+     * Selection of the details to report.
+     *
+     * @since 2.0
+     */
+    private static final class DetailFilter
+    {
+
+        private final Set<String> includedDetails;
+
+        private final Set<String> excludedDetails;
+
+        private DetailFilter( final Set<String> includedDetails, final Set<String> excludedDetails )
+        {
+            super();
+            this.includedDetails = includedDetails;
+            this.excludedDetails = excludedDetails;
+        }
+
+        private boolean isDetailEnabled( final String identifier )
+        {
+            return ( this.includedDetails.isEmpty() || this.includedDetails.contains( identifier ) )
+                       && !this.excludedDetails.contains( identifier );
+
+        }
+
+        private Set<String> getEnabledRules()
+        {
+            final Set<String> enabledRules = new HashSet<>( RULE_DETAIL_IDENTIFIERS.size() * 2 );
+
+            RULE_DETAIL_IDENTIFIERS.forEach( ( rule, identifiers )  ->
+            {
+                if ( identifiers.stream().anyMatch( this::isDetailEnabled ) )
+                {
+                    enabledRules.add( rule );
+                }
+            } );
+
+            return enabledRules;
+        }
+
     }
 
 }
@@ -0,0 +1,1379 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model.modlet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+import org.jomc.model.Argument;
+import org.jomc.model.ArgumentType;
+import org.jomc.model.Arguments;
+import org.jomc.model.Author;
+import org.jomc.model.Authors;
+import org.jomc.model.Dependencies;
+import org.jomc.model.Dependency;
+import org.jomc.model.Implementation;
+import org.jomc.model.ImplementationReference;
+import org.jomc.model.Implementations;
+import org.jomc.model.Message;
+import org.jomc.model.MessageReference;
+import org.jomc.model.Messages;
+import org.jomc.model.ModelObject;
+import org.jomc.model.Module;
+import org.jomc.model.Modules;
+import org.jomc.model.Multiplicity;
+import org.jomc.model.Properties;
+import org.jomc.model.Property;
+import org.jomc.model.PropertyReference;
+import org.jomc.model.Specification;
+import org.jomc.model.SpecificationReference;
+import org.jomc.model.Specifications;
+import org.jomc.model.Text;
+import org.jomc.model.Texts;
+import org.jomc.modlet.ModelContext;
+import org.jomc.modlet.ModelException;
+import org.w3c.dom.Element;
+import org.xml.sax.SAXException;
+
+/**
+ * Compact binary encoding of object management and configuration {@code Modules}.
+ * <p>
+ * The encoding follows the structure of the object management and configuration model schema. Lengths, counts and
+ * flags are written as variable-length integers, boolean attributes are packed into a single flags value per model
+ * object, and strings are written once and referenced by their index in a table of already written strings
+ * afterwards. Content not defined by the model ({@code any} content) is preserved as opaque XML.</p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ *
+ * @see ModulesSnapshot
+ */
+public abstract class ModulesCodec
+{
+
+    /**
+     * Version of the encoding written by this class.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /** String reference denoting {@code null}. */
+    private static final int NULL_STRING = 0;
+
+    /** String reference denoting a string not written before. */
+    private static final int NEW_STRING = 1;
+
+    /** {@code any} content encoded as a DOM element. */
+    private static final int ANY_ELEMENT = 0;
+
+    /** {@code any} content encoded by JAXB. */
+    private static final int ANY_JAXB = 1;
+
+    /** Flag of a model object with documentation. */
+    private static final int DOCUMENTATION_FLAG = 1;
+
+    /** Flag of a model object with authors. */
+    private static final int AUTHORS_FLAG = 1 << 1;
+
+    /** Flag of a deprecated model object. */
+    private static final int DEPRECATED_FLAG = 1 << 2;
+
+    /** Number of bits used by the flags common to all model objects. */
+    private static final int MODEL_OBJECT_FLAG_BITS = 3;
+
+    /** Multiplicities by ordinal. */
+    private static final Multiplicity[] MULTIPLICITIES = Multiplicity.values();
+
+    /** Argument types by ordinal. */
+    private static final ArgumentType[] ARGUMENT_TYPES = ArgumentType.values();
+
+    /**
+     * Creates a new {@code ModulesCodec} instance.
+     */
+    public ModulesCodec()
+    {
+        super();
+    }
+
+    /**
+     * Encodes {@code Modules} to a given stream.
+     *
+     * @param context The context to use for encoding {@code any} content.
+     * @param modules The {@code Modules} to encode.
+     * @param out The stream to write the encoded {@code modules} to.
+     *
+     * @throws NullPointerException if {@code context}, {@code modules} or {@code out} is {@code null}.
+     * @throws IOException if writing to {@code out} fails.
+     * @throws ModelException if encoding {@code any} content fails.
+     *
+     * @see #decodeModules(org.jomc.modlet.ModelContext, java.io.InputStream)
+     */
+    public static void encodeModules( final ModelContext context, final Modules modules, final OutputStream out )
+        throws IOException, ModelException
+    {
+        final Encoder encoder = new Encoder( Objects.requireNonNull( context, "context" ),
+                                             Objects.requireNonNull( out, "out" ) );
+
+        encoder.writeInt( FORMAT_VERSION );
+        encoder.writeModules( Objects.requireNonNull( modules, "modules" ) );
+        encoder.flush();
+    }
+
+    /**
+     * Decodes {@code Modules} from a given stream.
+     * <p>
+     * This method reads single bytes from the given stream. Callers should pass a buffered stream.</p>
+     *
+     * @param context The context to use for decoding {@code any} content.
+     * @param in The stream to read the encoded {@code Modules} from.
+     *
+     * @return The {@code Modules} decoded from {@code in}.
+     *
+     * @throws NullPointerException if {@code context} or {@code in} is {@code null}.
+     * @throws IOException if reading from {@code in} fails or if {@code in} does not provide {@code Modules} encoded
+     * in the format supported by this class.
+     * @throws ModelException if decoding {@code any} content fails.
+     *
+     * @see #encodeModules(org.jomc.modlet.ModelContext, org.jomc.model.Modules, java.io.OutputStream)
+     */
+    public static Modules decodeModules( final ModelContext context, final InputStream in )
+        throws IOException, ModelException
+    {
+        final Decoder decoder = new Decoder( Objects.requireNonNull( context, "context" ),
+                                             Objects.requireNonNull( in, "in" ) );
+
+        final int formatVersion = decoder.readInt();
+        if ( formatVersion != FORMAT_VERSION )
+        {
+            throw new IOException( getMessage( "unsupportedFormatVersion", formatVersion, FORMAT_VERSION ) );
+        }
+
+        return decoder.readModules();
+    }
+
+    private static final class Encoder
+    {
+
+        private final ModelContext context;
+
+        private final OutputStream out;
+
+        private final byte[] buffer = new byte[ 8192 ];
+
+        private int position;
+
+        private final Map<String, Integer> strings = new HashMap<>( 1024 );
+
+        private Marshaller marshaller;
+
+        private Transformer transformer;
+
+        Encoder( final ModelContext context, final OutputStream out )
+        {
+            super();
+            this.context = context;
+            this.out = out;
+        }
+
+        void flush() throws IOException
+        {
+            this.out.write( this.buffer, 0, this.position );
+            this.position = 0;
+            this.out.flush();
+        }
+
+        void writeByte( final int b ) throws IOException
+        {
+            if ( this.position == this.buffer.length )
+            {
+                this.out.write( this.buffer, 0, this.position );
+                this.position = 0;
+            }
+
+            this.buffer[this.position++] = (byte) b;
+        }
+
+        void writeBytes( final byte[] bytes ) throws IOException
+        {
+            this.writeInt( bytes.length );
+
+            if ( bytes.length > this.buffer.length - this.position )
+            {
+                this.out.write( this.buffer, 0, this.position );
+                this.position = 0;
+            }
+
+            if ( bytes.length > this.buffer.length )
+            {
+                this.out.write( bytes );
+            }
+            else
+            {
+                System.arraycopy( bytes, 0, this.buffer, this.position, bytes.length );
+                this.position += bytes.length;
+            }
+        }
+
+        void writeInt( final int value ) throws IOException
+        {
+            int v = value;
+
+            while ( ( v & ~0x7F ) != 0 )
+            {
+                this.writeByte( ( v & 0x7F ) | 0x80 );
+                v >>>= 7;
+            }
+
+            this.writeByte( v );
+        }
+
+        void writeSignedInt( final int value ) throws IOException
+        {
+            this.writeInt( ( value << 1 ) ^ ( value >> 31 ) );
+        }
+
+        void writeString( final String value ) throws IOException
+        {
+            if ( value == null )
+            {
+                this.writeInt( NULL_STRING );
+            }
+            else
+            {
+                final Integer index = this.strings.get( value );
+
+                if ( index != null )
+                {
+                    this.writeInt( index + 2 );
+                }
+                else
+                {
+                    this.strings.put( value, this.strings.size() );
+                    this.writeInt( NEW_STRING );
+                    this.writeBytes( value.getBytes( StandardCharsets.UTF_8 ) );
+                }
+            }
+        }
+
+        void writeModelObject( final ModelObject o, final int flags ) throws IOException, ModelException
+        {
+            int f = flags << MODEL_OBJECT_FLAG_BITS;
+            f |= o.getDocumentation() != null ? DOCUMENTATION_FLAG : 0;
+            f |= o.getAuthors() != null ? AUTHORS_FLAG : 0;
+            f |= o.isDeprecated() ? DEPRECATED_FLAG : 0;
+            this.writeInt( f );
+            this.writeString( o.getModelVersion() );
+            this.writeString( o.getCreateDate() != null ? o.getCreateDate().toXMLFormat() : null );
+
+            if ( o.getDocumentation() != null )
+            {
+                this.writeTexts( o.getDocumentation() );
+            }
+            if ( o.getAuthors() != null )
+            {
+                this.writeAuthors( o.getAuthors() );
+            }
+        }
+
+        void writeTexts( final Texts texts ) throws IOException
+        {
+            this.writeString( texts.getDefaultLanguage() );
+            this.writeInt( texts.getText().size() );
+
+            for ( int i = 0, s0 = texts.getText().size(); i < s0; i++ )
+            {
+                final Text text = texts.getText().get( i );
+                this.writeString( text.getLanguage() );
+                this.writeString( text.getType() );
+                this.writeString( text.getValue() );
+            }
+        }
+
+        void writeAuthors( final Authors authors ) throws IOException, ModelException
+        {
+            this.writeModelObject( authors, 0 );
+            this.writeInt( authors.getAuthor().size() );
+
+            for ( int i = 0, s0 = authors.getAuthor().size(); i < s0; i++ )
+            {
+                final Author author = authors.getAuthor().get( i );
+                this.writeModelObject( author, 0 );
+                this.writeString( author.getName() );
+                this.writeString( author.getMail() );
+                this.writeString( author.getVersion() );
+                this.writeAny( author.getAny() );
+            }
+        }
+
+        void writeModules( final Modules modules ) throws IOException, ModelException
+        {
+            this.writeModelObject( modules, 0 );
+            this.writeInt( modules.getModule().size() );
+
+            for ( int i = 0, s0 = modules.getModule().size(); i < s0; i++ )
+            {
+                this.writeModule( modules.getModule().get( i ) );
+            }
+        }
+
+        void writeModule( final Module module ) throws IOException, ModelException
+        {
+            int flags = 0;
+            flags |= module.getSpecifications() != null ? 1 : 0;
+            flags |= module.getImplementations() != null ? 1 << 1 : 0;
+            flags |= module.getProperties() != null ? 1 << 2 : 0;
+            flags |= module.getMessages() != null ? 1 << 3 : 0;
+
+            this.writeModelObject( module, flags );
+            this.writeString( module.getName() );
+            this.writeString( module.getVersion() );
+            this.writeString( module.getVendor() );
+
+            if ( module.getSpecifications() != null )
+            {
+                this.writeSpecifications( module.getSpecifications() );
+            }
+            if ( module.getImplementations() != null )
+            {
+                this.writeImplementations( module.getImplementations() );
+            }
+            if ( module.getProperties() != null )
+            {
+                this.writeProperties( module.getProperties() );
+            }
+            if ( module.getMessages() != null )
+            {
+                this.writeMessages( module.getMessages() );
+            }
+
+            this.writeAny( module.getAny() );
+        }
+
+        void writeSpecifications( final Specifications specifications ) throws IOException, ModelException
+        {
+            this.writeModelObject( specifications, 0 );
+            this.writeInt( specifications.getSpecification().size() );
+
+            for ( int i = 0, s0 = specifications.getSpecification().size(); i < s0; i++ )
+            {
+                this.writeSpecification( specifications.getSpecification().get( i ) );
+            }
+
+            this.writeInt( specifications.getReference().size() );
+
+            for ( int i = 0, s0 = specifications.getReference().size(); i < s0; i++ )
+            {
+                this.writeSpecificationReference( specifications.getReference().get( i ), 0 );
+            }
+        }
+
+        void writeSpecification( final Specification specification ) throws IOException, ModelException
+        {
+            int flags = 0;
+            flags |= specification.getProperties() != null ? 1 : 0;
+            flags |= specification.isClassDeclaration() ? 1 << 1 : 0;
+
+            this.writeModelObject( specification, flags );
+            this.writeString( specification.getIdentifier() );
+            this.writeString( specification.getClazz() );
+            this.writeString( specification.getVendor() );
+            this.writeString( specification.getVersion() );
+            this.writeInt( specification.getMultiplicity().ordinal() );
+            this.writeString( specification.getScope() );
+
+            if ( specification.getProperties() != null )
+            {
+                this.writeProperties( specification.getProperties() );
+            }
+
+            this.writeAny( specification.getAny() );
+        }
+
+        void writeSpecificationReference( final SpecificationReference reference, final int flags )
+            throws IOException, ModelException
+        {
+            int f = flags << 2;
+            f |= reference.isFinal() ? 1 : 0;
+            f |= reference.isOverride() ? 1 << 1 : 0;
+
+            this.writeModelObject( reference, f );
+            this.writeString( reference.getIdentifier() );
+            this.writeString( reference.getVersion() );
+        }
+
+        void writeImplementations( final Implementations implementations ) throws IOException, ModelException
+        {
+            this.writeModelObject( implementations, 0 );
+            this.writeInt( implementations.getImplementation().size() );
+
+            for ( int i = 0, s0 = implementations.getImplementation().size(); i < s0; i++ )
+            {
+                this.writeImplementation( implementations.getImplementation().get( i ) );
+            }
+
+            this.writeInt( implementations.getReference().size() );
+
+            for ( int i = 0, s0 = implementations.getReference().size(); i < s0; i++ )
+            {
+                final ImplementationReference reference = implementations.getReference().get( i );
+                int flags = 0;
+                flags |= reference.isFinal() ? 1 : 0;
+                flags |= reference.isOverride() ? 1 << 1 : 0;
+
+                this.writeModelObject( reference, flags );
+                this.writeString( reference.getIdentifier() );
+                this.writeString( reference.getVersion() );
+            }
+        }
+
+        void writeImplementation( final Implementation implementation ) throws IOException, ModelException
+        {
+            int flags = 0;
+            flags |= implementation.getSpecifications() != null ? 1 : 0;
+            flags |= implementation.getImplementations() != null ? 1 << 1 : 0;
+            flags |= implementation.getDependencies() != null ? 1 << 2 : 0;
+            flags |= implementation.getProperties() != null ? 1 << 3 : 0;
+            flags |= implementation.getMessages() != null ? 1 << 4 : 0;
+            flags |= implementation.isFinal() ? 1 << 5 : 0;
+            flags |= implementation.isStateless() ? 1 << 6 : 0;
+            flags |= implementation.isAbstract() ? 1 << 7 : 0;
+            flags |= implementation.isClassDeclaration() ? 1 << 8 : 0;
+
+            this.writeModelObject( implementation, flags );
+            this.writeString( implementation.getIdentifier() );
+            this.writeString( implementation.getName() );
+            this.writeString( implementation.getClazz() );
+            this.writeString( implementation.getLocation() );
+            this.writeString( implementation.getVendor() );
+            this.writeString( implementation.getVersion() );
+
+            if ( implementation.getSpecifications() != null )
+            {
+                this.writeSpecifications( implementation.getSpecifications() );
+            }
+            if ( implementation.getImplementations() != null )
+            {
+                this.writeImplementations( implementation.getImplementations() );
+            }
+            if ( implementation.getDependencies() != null )
+            {
+                this.writeDependencies( implementation.getDependencies() );
+            }
+            if ( implementation.getProperties() != null )
+            {
+                this.writeProperties( implementation.getProperties() );
+            }
+            if ( implementation.getMessages() != null )
+            {
+                this.writeMessages( implementation.getMessages() );
+            }
+
+            this.writeAny( implementation.getAny() );
+        }
+
+        void writeDependencies( final Dependencies dependencies ) throws IOException, ModelException
+        {
+            this.writeModelObject( dependencies, 0 );
+            this.writeInt( dependencies.getDependency().size() );
+
+            for ( int i = 0, s0 = dependencies.getDependency().size(); i < s0; i++ )
+            {
+                this.writeDependency( dependencies.getDependency().get( i ) );
+            }
+        }
+
+        void writeDependency( final Dependency dependency ) throws IOException, ModelException
+        {
+            int flags = 0;
+            flags |= dependency.getDependencies() != null ? 1 : 0;
+            flags |= dependency.getProperties() != null ? 1 << 1 : 0;
+            flags |= dependency.getMessages() != null ? 1 << 2 : 0;
+            flags |= dependency.isBound() ? 1 << 3 : 0;
+            flags |= dependency.isOptional() ? 1 << 4 : 0;
+
+            this.writeSpecificationReference( dependency, flags );
+            this.writeString( dependency.getImplementationName() );
+            this.writeString( dependency.getName() );
+
+            if ( dependency.getDependencies() != null )
+            {
+                this.writeDependencies( dependency.getDependencies() );
+            }
+            if ( dependency.getProperties() != null )
+            {
+                this.writeProperties( dependency.getProperties() );
+            }
+            if ( dependency.getMessages() != null )
+            {
+                this.writeMessages( dependency.getMessages() );
+            }
+
+            this.writeAny( dependency.getAny() );
+        }
+
+        void writeProperties( final Properties properties ) throws IOException, ModelException
+        {
+            this.writeModelObject( properties, 0 );
+            this.writeInt( properties.getProperty().size() );
+
+            for ( int i = 0, s0 = properties.getProperty().size(); i < s0; i++ )
+            {
+                final Property property = properties.getProperty().get( i );
+                int flags = 0;
+                flags |= property.isFinal() ? 1 : 0;
+                flags |= property.isOverride() ? 1 << 1 : 0;
+                flags |= property.getAny() != null ? 1 << 2 : 0;
+
+                this.writeModelObject( property, flags );
+                this.writeString( property.getName() );
+                this.writeString( property.getType() );
+                this.writeString( property.getValue() );
+
+                if ( property.getAny() != null )
+                {
+                    this.writeAnyObject( property.getAny() );
+                }
+            }
+
+            this.writeInt( properties.getReference().size() );
+
+            for ( int i = 0, s0 = properties.getReference().size(); i < s0; i++ )
+            {
+                final PropertyReference reference = properties.getReference().get( i );
+                int flags = 0;
+                flags |= reference.isFinal() ? 1 : 0;
+                flags |= reference.isOverride() ? 1 << 1 : 0;
+
+                this.writeModelObject( reference, flags );
+                this.writeString( reference.getName() );
+            }
+        }
+
+        void writeMessages( final Messages messages ) throws IOException, ModelException
+        {
+            this.writeModelObject( messages, 0 );
+            this.writeInt( messages.getMessage().size() );
+
+            for ( int i = 0, s0 = messages.getMessage().size(); i < s0; i++ )
+            {
+                this.writeMessage( messages.getMessage().get( i ) );
+            }
+
+            this.writeInt( messages.getReference().size() );
+
+            for ( int i = 0, s0 = messages.getReference().size(); i < s0; i++ )
+            {
+                final MessageReference reference = messages.getReference().get( i );
+                int flags = 0;
+                flags |= reference.isFinal() ? 1 : 0;
+                flags |= reference.isOverride() ? 1 << 1 : 0;
+
+                this.writeModelObject( reference, flags );
+                this.writeString( reference.getName() );
+            }
+        }
+
+        void writeMessage( final Message message ) throws IOException, ModelException
+        {
+            int flags = 0;
+            flags |= message.isFinal() ? 1 : 0;
+            flags |= message.isOverride() ? 1 << 1 : 0;
+            flags |= message.getTemplate() != null ? 1 << 2 : 0;
+            flags |= message.getArguments() != null ? 1 << 3 : 0;
+
+            this.writeModelObject( message, flags );
+            this.writeString( message.getName() );
+
+            if ( message.getTemplate() != null )
+            {
+                this.writeTexts( message.getTemplate() );
+            }
+            if ( message.getArguments() != null )
+            {
+                final Arguments arguments = message.getArguments();
+                this.writeModelObject( arguments, 0 );
+                this.writeInt( arguments.getArgument().size() );
+
+                for ( int i = 0, s0 = arguments.getArgument().size(); i < s0; i++ )
+                {
+                    final Argument argument = arguments.getArgument().get( i );
+                    this.writeModelObject( argument, 0 );
+                    this.writeSignedInt( argument.getIndex() );
+                    this.writeString( argument.getName() );
+                    this.writeInt( argument.getType().ordinal() );
+                    this.writeAny( argument.getAny() );
+                }
+            }
+
+            this.writeAny( message.getAny() );
+        }
+
+        void writeAny( final List<Object> any ) throws IOException, ModelException
+        {
+            this.writeInt( any.size() );
+
+            for ( int i = 0, s0 = any.size(); i < s0; i++ )
+            {
+                this.writeAnyObject( any.get( i ) );
+            }
+        }
+
+        void writeAnyObject( final Object any ) throws IOException, ModelException
+        {
+            final ByteArrayOutputStream xml = new ByteArrayOutputStream( 256 );
+
+            try
+            {
+                if ( any instanceof Element )
+                {
+                    if ( this.transformer == null )
+                    {
+                        this.transformer = TransformerFactory.newInstance().newTransformer();
+                        this.transformer.setOutputProperty( OutputKeys.OMIT_XML_DECLARATION, "yes" );
+                    }
+
+                    this.transformer.transform( new DOMSource( (Element) any ), new StreamResult( xml ) );
+                    this.writeInt( ANY_ELEMENT );
+                }
+                else
+                {
+                    if ( this.marshaller == null )
+                    {
+                        this.marshaller = this.context.createMarshaller( ModelObject.MODEL_PUBLIC_ID );
+                        this.marshaller.setProperty( Marshaller.JAXB_FRAGMENT, Boolean.TRUE );
+                    }
+
+                    this.marshaller.marshal( any, xml );
+                    this.writeInt( ANY_JAXB );
+                }
+
+                this.writeBytes( xml.toByteArray() );
+            }
+            catch ( final TransformerException e )
+            {
+                throw new ModelException( getMessage( e ), e );
+            }
+            catch ( final JAXBException e )
+            {
+                throw new ModelException( getMessage( e ), e );
+            }
+        }
+
+    }
+
+    private static final class Decoder
+    {
+
+        private final ModelContext context;
+
+        private final InputStream in;
+
+        private final List<String> strings = new ArrayList<>( 1024 );
+
+        private Unmarshaller unmarshaller;
+
+        private DocumentBuilder documentBuilder;
+
+        private DatatypeFactory datatypeFactory;
+
+        Decoder( final ModelContext context, final InputStream in )
+        {
+            super();
+            this.context = context;
+            this.in = in;
+        }
+
+        int readByte() throws IOException
+        {
+            final int b = this.in.read();
+
+            if ( b < 0 )
+            {
+                throw new EOFException( getMessage( "unexpectedEndOfStream" ) );
+            }
+
+            return b;
+        }
+
+        byte[] readBytes() throws IOException
+        {
+            final int length = this.readInt();
+
+            if ( length < 0 )
+            {
+                throw new IOException( getMessage( "illegalEncoding" ) );
+            }
+
+            // The length is read from the stream and is not trusted. The array is grown while reading so that a
+            // length exceeding the remaining input fails with an EOFException before allocating that much memory.
+            byte[] bytes = new byte[ Math.min( length, 8192 ) ];
+
+            for ( int off = 0; off < length; )
+            {
+                if ( off == bytes.length )
+                {
+                    bytes = Arrays.copyOf( bytes, (int) Math.min( length, 2L * bytes.length ) );
+                }
+
+                final int read = this.in.read( bytes, off, bytes.length - off );
+
+                if ( read < 0 )
+                {
+                    throw new EOFException( getMessage( "unexpectedEndOfStream" ) );
+                }
+
+                off += read;
+            }
+
+            return bytes;
+        }
+
+        int readInt() throws IOException
+        {
+            int value = 0;
+
+            for ( int shift = 0; shift < 35; shift += 7 )
+            {
+                final int b = this.readByte();
+                value |= ( b & 0x7F ) << shift;
+
+                if ( ( b & 0x80 ) == 0 )
+                {
+                    return value;
+                }
+            }
+
+            throw new IOException( getMessage( "illegalEncoding" ) );
+        }
+
+        int readSignedInt() throws IOException
+        {
+            final int value = this.readInt();
+            return ( value >>> 1 ) ^ -( value & 1 );
+        }
+
+        String readString() throws IOException
+        {
+            final int reference = this.readInt();
+
+            switch ( reference )
+            {
+                case NULL_STRING:
+                    return null;
+
+                case NEW_STRING:
+                    final String value = new String( this.readBytes(), StandardCharsets.UTF_8 );
+                    this.strings.add( value );
+                    return value;
+
+                default:
+                    if ( reference < 0 || reference - 2 >= this.strings.size() )
+                    {
+                        throw new IOException( getMessage( "illegalEncoding" ) );
+                    }
+
+                    return this.strings.get( reference - 2 );
+
+            }
+        }
+
+        <T extends Enum<T>> T readEnum( final T[] values ) throws IOException
+        {
+            final int ordinal = this.readInt();
+
+            if ( ordinal < 0 || ordinal >= values.length )
+            {
+                throw new IOException( getMessage( "illegalEncoding" ) );
+            }
+
+            return values[ordinal];
+        }
+
+        int readModelObject( final ModelObject o ) throws IOException, ModelException
+        {
+            final int f = this.readInt();
+            final String modelVersion = this.readString();
+            final String createDate = this.readString();
+
+            if ( !Objects.equals( modelVersion, o.getModelVersion() ) )
+            {
+                o.setModelVersion( modelVersion );
+            }
+            if ( createDate != null )
+            {
+                try
+                {
+                    if ( this.datatypeFactory == null )
+                    {
+                        this.datatypeFactory = DatatypeFactory.newInstance();
+                    }
+
+                    o.setCreateDate( this.datatypeFactory.newXMLGregorianCalendar( createDate ) );
+                }
+                catch ( final DatatypeConfigurationException | IllegalArgumentException e )
+                {
+                    throw new ModelException( getMessage( e ), e );
+                }
+            }
+            if ( ( f & DEPRECATED_FLAG ) != 0 )
+            {
+                o.setDeprecated( true );
+            }
+            if ( ( f & DOCUMENTATION_FLAG ) != 0 )
+            {
+                o.setDocumentation( this.readTexts() );
+            }
+            if ( ( f & AUTHORS_FLAG ) != 0 )
+            {
+                o.setAuthors( this.readAuthors() );
+            }
+
+            return f >>> MODEL_OBJECT_FLAG_BITS;
+        }
+
+        Texts readTexts() throws IOException
+        {
+            final Texts texts = new Texts();
+            texts.setDefaultLanguage( this.readString() );
+
+            for ( int i = 0, s0 = this.readInt(); i < s0; i++ )
+            {
+                final Text text = new Text();
+                text.setLanguage( this.readString() );
+
+                final String type = this.readString();
+                if ( !Objects.equals( type, text.getType() ) )
+                {
+                    text.setType( type );
+                }
+
+                text.setValue( this.readString() );
+                texts.getText().add( text );
+            }
+
+            return texts;
+        }
+
+        Authors readAuthors() throws IOException, ModelException
+        {
+            final Authors authors = new Authors();
+            this.readModelObject( authors );
+
+            for ( int i = 0, s0 = this.readInt(); i < s0; i++ )
+            {
+                final Author author = new Author();
+                this.readModelObject( author );
+                author.setName( this.readString() );
+                author.setMail( this.readString() );
+                author.setVersion( this.readString() );
+                this.readAny( author.getAny() );
+                authors.getAuthor().add( author );
+            }
+
+            return authors;
+        }
+
+        Modules readModules() throws IOException, ModelException
+        {
+            final Modules modules = new Modules();
+            this.readModelObject( modules );
+
+            for ( int i = 0, s0 = this.readInt(); i < s0; i++ )
+            {
+                modules.getModule().add( this.readModule() );
+            }
+
+            return modules;
+        }
+
+        Module readModule() throws IOException, ModelException
+        {
+            final Module module = new Module();
+            final int flags = this.readModelObject( module );
+            module.setName( this.readString() );
+            module.setVersion( this.readString() );
+            module.setVendor( this.readString() );
+
+            if ( ( flags & 1 ) != 0 )
+            {
+                module.setSpecifications( this.readSpecifications() );
+            }
+            if ( ( flags & 1 << 1 ) != 0 )
+            {
+                module.setImplementations( this.readImplementations() );
+            }
+            if ( ( flags & 1 << 2 ) != 0 )
+            {
+                module.setProperties( this.readProperties() );
+            }
+            if ( ( flags & 1 << 3 ) != 0 )
+            {
+                module.setMessages( this.readMessages() );
+            }
+
+            this.readAny( module.getAny() );
+            return module;
+        }
+
+        Specifications readSpecifications() throws IOException, ModelException
+        {
+            final Specifications specifications = new Specifications();
+            this.readModelObject( specifications );
+
+            for ( int i = 0, s0 = this.readInt(); i < s0; i++ )
+            {
+                specifications.getSpecification().add( this.readSpecification() );
+            }
+
+            for ( int i = 0, s0 = this.readInt(); i < s0; i++ )
+            {
+                final SpecificationReference reference = new SpecificationReference();
+                this.readSpecificationReference( reference );
+                specifications.getReference().add( reference );
+            }
+
+            return specifications;
+        }
+
+        Specification readSpecification() throws IOException, ModelException
+        {
+            final Specification specification = new Specification();
+            final int flags = this.readModelObject( specification );
+            specification.setIdentifier( this.readString() );
+            specification.setClazz( this.readString() );
+            specification.setVendor( this.readString() );
+            specification.setVersion( this.readString() );
+
+            final Multiplicity multiplicity = this.readEnum( MULTIPLICITIES );
+            if ( multiplicity != specification.getMultiplicity() )
+            {
+                specification.setMultiplicity( multiplicity );
+            }
+
+            specification.setScope( this.readString() );
+
+            if ( ( flags & 1 << 1 ) != 0 )
+            {
+                specification.setClassDeclaration( true );
+            }
+            if ( ( flags & 1 ) != 0 )
+            {
+                specification.setProperties( this.readProperties() );
+            }
+
+            this.readAny( specification.getAny() );
+            return specification;
+        }
+
+        int readSpecificationReference( final SpecificationReference reference ) throws IOException, ModelException
+        {
+            final int flags = this.readModelObject( reference );
+            reference.setIdentifier( this.readString() );
+            reference.setVersion( this.readString() );
+
+            if ( ( flags & 1 ) != 0 )
+            {
+                reference.setFinal( true );
+            }
+            if ( ( flags & 1 << 1 ) != 0 )
+            {
+                reference.setOverride( true );
+            }
+
+            return flags >>> 2;
+        }
+
+        Implementations readImplementations() throws IOException, ModelException
+        {
+            final Implementations implementations = new Implementations();
+            this.readModelObject( implementations );
+
+            for ( int i = 0, s0 = this.readInt(); i < s0; i++ )
+            {
+                implementations.getImplementation().add( this.readImplementation() );
+            }
+
+            for ( int i = 0, s0 = this.readInt(); i < s0; i++ )
+            {
+                final ImplementationReference reference = new ImplementationReference();
+                final int flags = this.readModelObject( reference );
+                reference.setIdentifier( this.readString() );
+                reference.setVersion( this.readString() );
+
+                if ( ( flags & 1 ) != 0 )
+                {
+                    reference.setFinal( true );
+                }
+                if ( ( flags & 1 << 1 ) != 0 )
+                {
+                    reference.setOverride( true );
+                }
+
+                implementations.getReference().add( reference );
+            }
+
+            return implementations;
+        }
+
+        Implementation readImplementation() throws IOException, ModelException
+        {
+            final Implementation implementation = new Implementation();
+            final int flags = this.readModelObject( implementation );
+            implementation.setIdentifier( this.readString() );
+            implementation.setName( this.readString() );
+            implementation.setClazz( this.readString() );
+            implementation.setLocation( this.readString() );
+            implementation.setVendor( this.readString() );
+            implementation.setVersion( this.readString() );
+
+            if ( ( flags & 1 << 5 ) != 0 )
+            {
+                implementation.setFinal( true );
+            }
+            if ( ( flags & 1 << 6 ) != 0 )
+            {
+                implementation.setStateless( true );
+            }
+            if ( ( flags & 1 << 7 ) != 0 )
+            {
+                implementation.setAbstract( true );
+            }
+            if ( ( flags & 1 << 8 ) != 0 )
+            {
+                implementation.setClassDeclaration( true );
+            }
+            if ( ( flags & 1 ) != 0 )
+            {
+                implementation.setSpecifications( this.readSpecifications() );
+            }
+            if ( ( flags & 1 << 1 ) != 0 )
+            {
+                implementation.setImplementations( this.readImplementations() );
+            }
+            if ( ( flags & 1 << 2 ) != 0 )
+            {
+                implementation.setDependencies( this.readDependencies() );
+            }
+            if ( ( flags & 1 << 3 ) != 0 )
+            {
+                implementation.setProperties( this.readProperties() );
+            }
+            if ( ( flags & 1 << 4 ) != 0 )
+            {
+                implementation.setMessages( this.readMessages() );
+            }
+
+            this.readAny( implementation.getAny() );
+            return implementation;
+        }
+
+        Dependencies readDependencies() throws IOException, ModelException
+        {
+            final Dependencies dependencies = new Dependencies();
+            this.readModelObject( dependencies );
+
+            for ( int i = 0, s0 = this.readInt(); i < s0; i++ )
+            {
+                dependencies.getDependency().add( this.readDependency() );
+            }
+
+            return dependencies;
+        }
+
+        Dependency readDependency() throws IOException, ModelException
+        {
+            final Dependency dependency = new Dependency();
+            final int flags = this.readSpecificationReference( dependency );
+            dependency.setImplementationName( this.readString() );
+            dependency.setName( this.readString() );
+
+            final boolean bound = ( flags & 1 << 3 ) != 0;
+            if ( bound != dependency.isBound() )
+            {
+                dependency.setBound( bound );
+            }
+            if ( ( flags & 1 << 4 ) != 0 )
+            {
+                dependency.setOptional( true );
+            }
+            if ( ( flags & 1 ) != 0 )
+            {
+                dependency.setDependencies( this.readDependencies() );
+            }
+            if ( ( flags & 1 << 1 ) != 0 )
+            {
+                dependency.setProperties( this.readProperties() );
+            }
+            if ( ( flags & 1 << 2 ) != 0 )
+            {
+                dependency.setMessages( this.readMessages() );
+            }
+
+            this.readAny( dependency.getAny() );
+            return dependency;
+        }
+
+        Properties readProperties() throws IOException, ModelException
+        {
+            final Properties properties = new Properties();
+            this.readModelObject( properties );
+
+            for ( int i = 0, s0 = this.readInt(); i < s0; i++ )
+            {
+                final Property property = new Property();
+                final int flags = this.readModelObject( property );
+                property.setName( this.readString() );
+                property.setType( this.readString() );
+                property.setValue( this.readString() );
+
+                if ( ( flags & 1 ) != 0 )
+                {
+                    property.setFinal( true );
+                }
+                if ( ( flags & 1 << 1 ) != 0 )
+                {
+                    property.setOverride( true );
+                }
+                if ( ( flags & 1 << 2 ) != 0 )
+                {
+                    property.setAny( this.readAnyObject() );
+                }
+
+                properties.getProperty().add( property );
+            }
+
+            for ( int i = 0, s0 = this.readInt(); i < s0; i++ )
+            {
+                final PropertyReference reference = new PropertyReference();
+                final int flags = this.readModelObject( reference );
+                reference.setName( this.readString() );
+
+                if ( ( flags & 1 ) != 0 )
+                {
+                    reference.setFinal( true );
+                }
+                if ( ( flags & 1 << 1 ) != 0 )
+                {
+                    reference.setOverride( true );
+                }
+
+                properties.getReference().add( reference );
+            }
+
+            return properties;
+        }
+
+        Messages readMessages() throws IOException, ModelException
+        {
+            final Messages messages = new Messages();
+            this.readModelObject( messages );
+
+            for ( int i = 0, s0 = this.readInt(); i < s0; i++ )
+            {
+                messages.getMessage().add( this.readMessage() );
+            }
+
+            for ( int i = 0, s0 = this.readInt(); i < s0; i++ )
+            {
+                final MessageReference reference = new MessageReference();
+                final int flags = this.readModelObject( reference );
+                reference.setName( this.readString() );
+
+                if ( ( flags & 1 ) != 0 )
+                {
+                    reference.setFinal( true );
+                }
+                if ( ( flags & 1 << 1 ) != 0 )
+                {
+                    reference.setOverride( true );
+                }
+
+                messages.getReference().add( reference );
+            }
+
+            return messages;
+        }
+
+        Message readMessage() throws IOException, ModelException
+        {
+            final Message message = new Message();
+            final int flags = this.readModelObject( message );
+            message.setName( this.readString() );
+
+            if ( ( flags & 1 ) != 0 )
+            {
+                message.setFinal( true );
+            }
+            if ( ( flags & 1 << 1 ) != 0 )
+            {
+                message.setOverride( true );
+            }
+            if ( ( flags & 1 << 2 ) != 0 )
+            {
+                message.setTemplate( this.readTexts() );
+            }
+            if ( ( flags & 1 << 3 ) != 0 )
+            {
+                final Arguments arguments = new Arguments();
+                this.readModelObject( arguments );
+
+                for ( int i = 0, s0 = this.readInt(); i < s0; i++ )
+                {
+                    final Argument argument = new Argument();
+                    this.readModelObject( argument );
+                    argument.setIndex( this.readSignedInt() );
+                    argument.setName( this.readString() );
+
+                    final ArgumentType type = this.readEnum( ARGUMENT_TYPES );
+                    if ( type != argument.getType() )
+                    {
+                        argument.setType( type );
+                    }
+
+                    this.readAny( argument.getAny() );
+                    arguments.getArgument().add( argument );
+                }
+
+                message.setArguments( arguments );
+            }
+
+            this.readAny( message.getAny() );
+            return message;
+        }
+
+        void readAny( final List<Object> any ) throws IOException, ModelException
+        {
+            for ( int i = 0, s0 = this.readInt(); i < s0; i++ )
+            {
+                any.add( this.readAnyObject() );
+            }
+        }
+
+        Object readAnyObject() throws IOException, ModelException
+        {
+            final int kind = this.readInt();
+            final byte[] xml = this.readBytes();
+
+            try
+            {
+                switch ( kind )
+                {
+                    case ANY_ELEMENT:
+                        if ( this.documentBuilder == null )
+                        {
+                            final DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+                            documentBuilderFactory.setNamespaceAware( true );
+                            this.documentBuilder = documentBuilderFactory.newDocumentBuilder();
+                        }
+
+                        return this.documentBuilder.parse( new ByteArrayInputStream( xml ) ).getDocumentElement();
+
+                    case ANY_JAXB:
+                        if ( this.unmarshaller == null )
+                        {
+                            this.unmarshaller = this.context.createUnmarshaller( ModelObject.MODEL_PUBLIC_ID );
+                        }
+
+                        return this.unmarshaller.unmarshal( new StreamSource( new ByteArrayInputStream( xml ) ) );
+
+                    default:
+                        throw new IOException( getMessage( "illegalEncoding" ) );
+
+                }
+            }
+            catch ( final ParserConfigurationException | SAXException e )
+            {
+                throw new ModelException( getMessage( e ), e );
+            }
+            catch ( final JAXBException e )
+            {
+                throw new ModelException( getMessage( e ), e );
+            }
+        }
+
+    }
+
+    private static String getMessage( final String key, final Object... args )
+    {
+        return MessageFormat.format( ResourceBundle.getBundle(
+            ModulesCodec.class.getName().replace( '.', '/' ), Locale.getDefault() ).getString( key ), args );
+
+    }
+
+    private static String getMessage( final Throwable t )
+    {
+        return t != null
+                   ? t.getMessage() != null && t.getMessage().trim().length() > 0
+                         ? t.getMessage()
+                         : getMessage( t.getCause() )
+                   : null;
+
+    }
+
+    private static String getMessage( final JAXBException e )
+    {
+        String message = getMessage( (Throwable) e );
+        if ( message == null && e.getLinkedException() != null )
+        {
+            message = getMessage( e.getLinkedException() );
+        }
+        return message;
+    }
+
+}
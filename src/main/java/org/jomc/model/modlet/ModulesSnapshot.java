@@ -0,0 +1,365 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model.modlet;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.logging.Level;
+import org.jomc.model.ModelObject;
+import org.jomc.model.Modules;
+import org.jomc.modlet.Model;
+import org.jomc.modlet.ModelContext;
+import org.jomc.modlet.ModelContextFactory;
+import org.jomc.modlet.ModelException;
+import org.jomc.modlet.ModelValidationReport;
+
+/**
+ * Ahead-of-time snapshot of validated object management and configuration {@code Modules}.
+ * <p>
+ * A snapshot holds the {@code Modules} of a model after it has been provided, processed and successfully validated.
+ * It is created once at build time - for example by executing this class from the command line with the classpath of
+ * the application - and is read at runtime in place of searching, parsing, processing and validating the modules
+ * again. Snapshots start with a header holding the format version and model identifier they got written with, so that
+ * snapshots of a different format are rejected instead of being misinterpreted.</p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ *
+ * @see #main(java.lang.String[])
+ * @see #getModel(org.jomc.modlet.ModelContext, java.lang.String)
+ */
+public abstract class ModulesSnapshot
+{
+
+    /**
+     * Default location snapshots are searched at.
+     */
+    public static final String DEFAULT_LOCATION = "META-INF/jomc-modules.snapshot";
+
+    /**
+     * Version of the format of snapshots written by this class.
+     */
+    public static final int FORMAT_VERSION = 2;
+
+    /**
+     * Magic number starting any snapshot.
+     */
+    private static final int MAGIC = 0x4A4F4D43;
+
+    /**
+     * Creates a new {@code ModulesSnapshot} instance.
+     */
+    public ModulesSnapshot()
+    {
+        super();
+    }
+
+    /**
+     * Creates validated {@code Modules} by providing, processing and validating the object management and
+     * configuration model of a given context.
+     *
+     * @param context The context to create {@code Modules} with.
+     *
+     * @return The validated {@code Modules} of the model of {@code context}.
+     *
+     * @throws NullPointerException if {@code context} is {@code null}.
+     * @throws ModelException if providing, processing or validating the model fails or if the model is invalid.
+     */
+    public static Modules createModules( final ModelContext context ) throws ModelException
+    {
+        Objects.requireNonNull( context, "context" );
+
+        final Model model = context.processModel( context.findModel( ModelObject.MODEL_PUBLIC_ID ) );
+        final ModelValidationReport report = context.validateModel( model );
+
+        if ( !report.isModelValid() )
+        {
+            for ( final ModelValidationReport.Detail detail : report.getDetails() )
+            {
+                if ( context.isLoggable( detail.getLevel() ) )
+                {
+                    context.log( detail.getLevel(), detail.getMessage(), null );
+                }
+            }
+
+            throw new ModelException( getMessage( "invalidModel", model.getIdentifier(),
+                                                  report.getDetails().size() ) );
+
+        }
+
+        final Optional<Modules> modules = ModelHelper.getModules( model );
+        return modules.isPresent() ? modules.get() : new Modules();
+    }
+
+    /**
+     * Writes a snapshot of {@code Modules} to a given stream.
+     *
+     * @param context The context to use for writing the snapshot.
+     * @param modules The {@code Modules} to write.
+     * @param out The stream to write the snapshot to.
+     *
+     * @throws NullPointerException if {@code context}, {@code modules} or {@code out} is {@code null}.
+     * @throws IOException if writing to {@code out} fails.
+     * @throws ModelException if encoding {@code modules} fails.
+     *
+     * @see #readModules(org.jomc.modlet.ModelContext, java.io.InputStream)
+     */
+    public static void writeModules( final ModelContext context, final Modules modules, final OutputStream out )
+        throws IOException, ModelException
+    {
+        Objects.requireNonNull( context, "context" );
+        Objects.requireNonNull( modules, "modules" );
+        Objects.requireNonNull( out, "out" );
+
+        final DataOutputStream header = new DataOutputStream( out );
+        header.writeInt( MAGIC );
+        header.writeInt( FORMAT_VERSION );
+        header.writeUTF( ModelObject.MODEL_PUBLIC_ID );
+        header.flush();
+
+        ModulesCodec.encodeModules( context, modules, out );
+    }
+
+    /**
+     * Reads a snapshot of {@code Modules} from a given stream.
+     *
+     * @param context The context to use for reading the snapshot.
+     * @param in The stream to read the snapshot from.
+     *
+     * @return The {@code Modules} read from {@code in}.
+     *
+     * @throws NullPointerException if {@code context} or {@code in} is {@code null}.
+     * @throws IOException if reading from {@code in} fails or if {@code in} does not provide a snapshot of the format
+     * supported by this class.
+     * @throws ModelException if decoding the snapshot fails.
+     *
+     * @see #writeModules(org.jomc.modlet.ModelContext, org.jomc.model.Modules, java.io.OutputStream)
+     */
+    public static Modules readModules( final ModelContext context, final InputStream in )
+        throws IOException, ModelException
+    {
+        Objects.requireNonNull( context, "context" );
+        Objects.requireNonNull( in, "in" );
+
+        final DataInputStream header = new DataInputStream( in );
+
+        if ( header.readInt() != MAGIC )
+        {
+            throw new IOException( getMessage( "illegalSnapshot" ) );
+        }
+
+        final int formatVersion = header.readInt();
+        if ( formatVersion != FORMAT_VERSION )
+        {
+            throw new IOException( getMessage( "unsupportedFormatVersion", formatVersion, FORMAT_VERSION ) );
+        }
+
+        final String model = header.readUTF();
+        if ( !ModelObject.MODEL_PUBLIC_ID.equals( model ) )
+        {
+            throw new IOException( getMessage( "unsupportedModel", model, ModelObject.MODEL_PUBLIC_ID ) );
+        }
+
+        return ModulesCodec.decodeModules( context, in );
+    }
+
+    /**
+     * Searches a given context for a snapshot of {@code Modules}.
+     *
+     * @param context The context to search for a snapshot.
+     * @param location The location to search at.
+     *
+     * @return The {@code Modules} of the first snapshot found at {@code location} or no value, if no snapshot is found.
+     *
+     * @throws NullPointerException if {@code context} or {@code location} is {@code null}.
+     * @throws IOException if reading a snapshot fails.
+     * @throws ModelException if searching the context fails or if decoding a snapshot fails.
+     */
+    public static Optional<Modules> findModules( final ModelContext context, final String location )
+        throws IOException, ModelException
+    {
+        Objects.requireNonNull( context, "context" );
+        Objects.requireNonNull( location, "location" );
+
+        final List<URL> resources = Collections.list( context.findResources( location ) );
+
+        if ( resources.isEmpty() )
+        {
+            return Optional.empty();
+        }
+
+        if ( resources.size() > 1 && context.isLoggable( Level.WARNING ) )
+        {
+            context.log( Level.WARNING, getMessage( "ambiguousSnapshot", location, resources.size(),
+                                                    resources.get( 0 ).toExternalForm() ), null );
+
+        }
+
+        final long t0 = System.nanoTime();
+
+        try ( final InputStream in = new BufferedInputStream( resources.get( 0 ).openStream() ) )
+        {
+            final Modules modules = readModules( context, in );
+
+            if ( context.isLoggable( Level.FINE ) )
+            {
+                context.log( Level.FINE, getMessage( "readReport", resources.get( 0 ).toExternalForm(),
+                                                     System.nanoTime() - t0 ), null );
+
+            }
+
+            return Optional.of( modules );
+        }
+    }
+
+    /**
+     * Gets the object management and configuration model of a given context preferring a snapshot.
+     * <p>
+     * If a snapshot is found at {@code location}, the model is created from that snapshot without searching, parsing,
+     * processing and validating any modules. Otherwise the model is created by providing, processing and validating
+     * the model of {@code context}. In both cases, the {@code Modules} of the model are available via
+     * {@link ModelHelper#getModules(org.jomc.modlet.Model)}.</p>
+     *
+     * @param context The context to get the model of.
+     * @param location The location to search for a snapshot at.
+     *
+     * @return The object management and configuration model of {@code context}.
+     *
+     * @throws NullPointerException if {@code context} or {@code location} is {@code null}.
+     * @throws IOException if reading a snapshot fails.
+     * @throws ModelException if getting the model fails or if the model is invalid.
+     *
+     * @see #DEFAULT_LOCATION
+     */
+    public static Model getModel( final ModelContext context, final String location )
+        throws IOException, ModelException
+    {
+        Objects.requireNonNull( context, "context" );
+        Objects.requireNonNull( location, "location" );
+
+        final Optional<Modules> snapshot = findModules( context, location );
+        final Model model = new Model();
+        model.setIdentifier( ModelObject.MODEL_PUBLIC_ID );
+        ModelHelper.setModules( model, snapshot.isPresent() ? snapshot.get() : createModules( context ) );
+        return model;
+    }
+
+    /**
+     * Command line entry point for creating a snapshot.
+     * <p>
+     * Usage: {@code java -cp <classpath> org.jomc.model.modlet.ModulesSnapshot <file>}</p>
+     * <p>
+     * Provides, processes and validates the object management and configuration model of the classpath and writes a
+     * snapshot of the validated {@code Modules} to {@code <file>}. Terminates the virtual machine with a non-zero
+     * status, if the model is invalid or if writing the snapshot fails.</p>
+     *
+     * @param args The command line arguments.
+     */
+    public static void main( final String[] args )
+    {
+        if ( args == null || args.length != 1 )
+        {
+            System.err.println( getMessage( "usage", ModulesSnapshot.class.getName() ) );
+            System.exit( 2 );
+        }
+
+        try
+        {
+            final ModelContext context = ModelContextFactory.newInstance().newModelContext();
+            final Modules modules = createModules( context );
+            final Path file = Paths.get( args[0] ).toAbsolutePath();
+            final Path parent = file.getParent();
+
+            if ( parent != null )
+            {
+                Files.createDirectories( parent );
+            }
+
+            final Path tmp = Files.createTempFile( parent, file.getFileName().toString(), ".tmp" );
+
+            try
+            {
+                try ( final OutputStream out = Files.newOutputStream( tmp ) )
+                {
+                    writeModules( context, modules, out );
+                }
+
+                Files.move( tmp, file, StandardCopyOption.REPLACE_EXISTING );
+            }
+            finally
+            {
+                Files.deleteIfExists( tmp );
+            }
+
+            System.out.println( getMessage( "writeReport", file.toString(), modules.getModule().size() ) );
+        }
+        catch ( final IOException | ModelException e )
+        {
+            System.err.println( getMessage( "writeFailure", args[0], getMessage( e ) ) );
+            System.exit( 1 );
+        }
+    }
+
+    private static String getMessage( final String key, final Object... args )
+    {
+        return MessageFormat.format( ResourceBundle.getBundle(
+            ModulesSnapshot.class.getName().replace( '.', '/' ), Locale.getDefault() ).getString( key ), args );
+
+    }
+
+    private static String getMessage( final Throwable t )
+    {
+        return t != null
+                   ? t.getMessage() != null && t.getMessage().trim().length() > 0
+                         ? t.getMessage()
+                         : getMessage( t.getCause() )
+                   : null;
+
+    }
+
+}
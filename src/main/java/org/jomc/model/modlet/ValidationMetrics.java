@@ -0,0 +1,253 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model.modlet;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Snapshot of the metrics collected during a single validation of a {@code DefaultModelValidator}.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ *
+ * @see DefaultModelValidator#COLLECT_METRICS_ATTRIBUTE_NAME
+ * @see DefaultModelValidator#METRICS_ATTRIBUTE_NAME
+ */
+public final class ValidationMetrics implements Serializable
+{
+
+    /**
+     * Metrics of a single validation rule.
+     * <p>
+     * Times and allocations are measured on the thread invoking a rule and include any rules invoked by that rule.
+     * Work a rule hands off to other threads is not accounted for in CPU times and allocations, so these values are
+     * estimates only. A value of {@code -1} indicates the Java virtual machine does not support the measurement.</p>
+     *
+     * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+     * @version $JOMC$
+     * @since 2.0
+     */
+    public static final class Rule implements Serializable
+    {
+
+        /**
+         * Serial version UID of the serialized form introduced in 2.0.
+         */
+        private static final long serialVersionUID = -3208736123587459826L;
+
+        /**
+         * The name of the rule.
+         */
+        private final String name;
+
+        /**
+         * The number of invocations of the rule.
+         */
+        private final long invocations;
+
+        /**
+         * The wall clock time spent in the rule in nanoseconds.
+         */
+        private final long wallTimeNanos;
+
+        /**
+         * The CPU time spent in the rule in nanoseconds.
+         */
+        private final long cpuTimeNanos;
+
+        /**
+         * The estimated number of bytes allocated by the rule.
+         */
+        private final long allocatedBytes;
+
+        Rule( final String name, final long invocations, final long wallTimeNanos, final long cpuTimeNanos,
+              final long allocatedBytes )
+        {
+            super();
+            this.name = Objects.requireNonNull( name, "name" );
+            this.invocations = invocations;
+            this.wallTimeNanos = wallTimeNanos;
+            this.cpuTimeNanos = cpuTimeNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        /**
+         * Gets the name of the rule.
+         *
+         * @return The name of the rule.
+         */
+        public String getName()
+        {
+            return this.name;
+        }
+
+        /**
+         * Gets the number of invocations of the rule.
+         *
+         * @return The number of invocations of the rule.
+         */
+        public long getInvocations()
+        {
+            return this.invocations;
+        }
+
+        /**
+         * Gets the wall clock time spent in the rule.
+         *
+         * @return The wall clock time spent in the rule in nanoseconds.
+         */
+        public long getWallTimeNanos()
+        {
+            return this.wallTimeNanos;
+        }
+
+        /**
+         * Gets the CPU time spent in the rule.
+         *
+         * @return The CPU time spent in the rule in nanoseconds or {@code -1}, if CPU time measurement is not
+         * supported.
+         */
+        public long getCpuTimeNanos()
+        {
+            return this.cpuTimeNanos;
+        }
+
+        /**
+         * Gets the estimated number of bytes allocated by the rule.
+         *
+         * @return The estimated number of bytes allocated by the rule or {@code -1}, if allocation measurement is not
+         * supported.
+         */
+        public long getAllocatedBytes()
+        {
+            return this.allocatedBytes;
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.getClass().getSimpleName() + "{name=" + this.getName() + ", invocations="
+                       + this.getInvocations() + ", wallTimeNanos=" + this.getWallTimeNanos() + ", cpuTimeNanos="
+                       + this.getCpuTimeNanos() + ", allocatedBytes=" + this.getAllocatedBytes() + "}";
+
+        }
+
+    }
+
+    /**
+     * Serial version UID of the serialized form introduced in 2.0.
+     */
+    private static final long serialVersionUID = 6215393049180657412L;
+
+    /**
+     * The wall clock time of the validation in nanoseconds.
+     */
+    private final long wallTimeNanos;
+
+    /**
+     * The metrics of all rules.
+     */
+    private final List<Rule> rules;
+
+    /**
+     * Maps detail identifiers to the number of details reported.
+     */
+    private final Map<String, Long> detailCounts;
+
+    ValidationMetrics( final long wallTimeNanos, final List<Rule> rules, final Map<String, Long> detailCounts )
+    {
+        super();
+        this.wallTimeNanos = wallTimeNanos;
+        this.rules = Collections.unmodifiableList( Objects.requireNonNull( rules, "rules" ) );
+        this.detailCounts = Collections.unmodifiableMap( Objects.requireNonNull( detailCounts, "detailCounts" ) );
+    }
+
+    /**
+     * Gets the wall clock time of the validation.
+     *
+     * @return The wall clock time of the validation in nanoseconds.
+     */
+    public long getWallTimeNanos()
+    {
+        return this.wallTimeNanos;
+    }
+
+    /**
+     * Gets the metrics of all rules invoked during the validation.
+     *
+     * @return An unmodifiable list holding the metrics of all rules invoked during the validation sorted by rule name.
+     */
+    public List<Rule> getRules()
+    {
+        return this.rules;
+    }
+
+    /**
+     * Gets the metrics of a rule.
+     *
+     * @param name The name of the rule to get the metrics of.
+     *
+     * @return The metrics of the rule named {@code name} or no value, if that rule has not been invoked during the
+     * validation.
+     *
+     * @throws NullPointerException if {@code name} is {@code null}.
+     */
+    public Optional<Rule> getRule( final String name )
+    {
+        Objects.requireNonNull( name, "name" );
+        return this.rules.stream().filter( r  -> name.equals( r.getName() ) ).findAny();
+    }
+
+    /**
+     * Gets the number of details reported during the validation.
+     *
+     * @return An unmodifiable map of detail identifiers to the number of details reported with that identifier.
+     */
+    public Map<String, Long> getDetailCounts()
+    {
+        return this.detailCounts;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.getClass().getSimpleName() + "{wallTimeNanos=" + this.getWallTimeNanos() + ", rules="
+                   + this.getRules() + ", detailCounts=" + this.getDetailCounts() + "}";
+
+    }
+
+}
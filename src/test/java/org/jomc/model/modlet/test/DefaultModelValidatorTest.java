@@ -30,6 +30,7 @@
  */
 package org.jomc.model.modlet.test;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
@@ -37,10 +38,14 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.util.JAXBSource;
+import org.jomc.model.Message;
+import org.jomc.model.Messages;
 import org.jomc.model.ModelObject;
+import org.jomc.model.Module;
 import org.jomc.model.Modules;
 import org.jomc.model.modlet.DefaultModelValidator;
 import org.jomc.model.modlet.ModelHelper;
+import org.jomc.model.modlet.ValidationMetrics;
 import org.jomc.model.test.ModelValidationReportDetail;
 import org.jomc.model.test.ModulesConstraintsTestType;
 import org.jomc.model.test.SchemaConstraintsTestType;
@@ -354,6 +359,109 @@ public class DefaultModelValidatorTest
         this.getModelValidator().setEnabled( null );
     }
 
+    @Test
+    public final void testDefaultCollectMetrics() throws Exception
+    {
+        System.clearProperty( "org.jomc.model.modlet.DefaultModelValidator.defaultCollectMetrics" );
+        DefaultModelValidator.setDefaultCollectMetrics( null );
+        assertFalse( DefaultModelValidator.isDefaultCollectMetrics() );
+
+        System.setProperty( "org.jomc.model.modlet.DefaultModelValidator.defaultCollectMetrics",
+                            Boolean.toString( true ) );
+
+        DefaultModelValidator.setDefaultCollectMetrics( null );
+        assertTrue( DefaultModelValidator.isDefaultCollectMetrics() );
+        System.clearProperty( "org.jomc.model.modlet.DefaultModelValidator.defaultCollectMetrics" );
+        DefaultModelValidator.setDefaultCollectMetrics( null );
+        assertFalse( DefaultModelValidator.isDefaultCollectMetrics() );
+    }
+
+    @Test
+    public final void testCollectMetrics() throws Exception
+    {
+        final Model model = new Model();
+        model.setIdentifier( ModelObject.MODEL_PUBLIC_ID );
+        ModelHelper.setModules( model, new Modules() );
+
+        DefaultModelValidator.setDefaultCollectMetrics( null );
+        this.getModelValidator().setCollectMetrics( null );
+        assertFalse( this.getModelValidator().isCollectMetrics() );
+
+        this.getModelValidator().validateModel( this.getModelContext(), model );
+        assertFalse( this.getModelContext().getAttribute( DefaultModelValidator.METRICS_ATTRIBUTE_NAME ).
+            isPresent() );
+
+        this.getModelContext().setAttribute( DefaultModelValidator.COLLECT_METRICS_ATTRIBUTE_NAME, Boolean.TRUE );
+        this.getModelValidator().validateModel( this.getModelContext(), model );
+
+        final Optional<Object> metrics =
+            this.getModelContext().getAttribute( DefaultModelValidator.METRICS_ATTRIBUTE_NAME );
+
+        assertTrue( metrics.isPresent() );
+        assertTrue( metrics.get() instanceof ValidationMetrics );
+
+        final ValidationMetrics validationMetrics = (ValidationMetrics) metrics.get();
+        System.out.println( validationMetrics );
+
+        assertTrue( validationMetrics.getWallTimeNanos() >= 0L );
+        assertTrue( validationMetrics.getRule( "assertModulesValid" ).isPresent() );
+        assertEquals( 1L, validationMetrics.getRule( "assertModulesValid" ).get().getInvocations() );
+        assertTrue( validationMetrics.getRule( "assertImplementationsValid" ).isPresent() );
+        assertFalse( validationMetrics.getRule( "assertValidDependency" ).isPresent() );
+
+        DefaultModelValidator.setDefaultCollectMetrics( null );
+        this.getModelValidator().setCollectMetrics( null );
+    }
+
+    @Test
+    public final void testIncludedAndExcludedDetails() throws Exception
+    {
+        final Message message = new Message();
+        message.setName( "Message" );
+        message.setFinal( true );
+
+        final Module module = new Module();
+        module.setName( "Module" );
+        module.setMessages( new Messages() );
+        module.getMessages().getMessage().add( message );
+
+        final Modules modules = new Modules();
+        modules.getModule().add( module );
+
+        final Model model = new Model();
+        model.setIdentifier( ModelObject.MODEL_PUBLIC_ID );
+        ModelHelper.setModules( model, modules );
+
+        this.getModelValidator().getIncludedDetails().clear();
+        this.getModelValidator().getExcludedDetails().clear();
+
+        Optional<ModelValidationReport> report =
+            this.getModelValidator().validateModel( this.getModelContext(), model );
+
+        assertTrue( report.isPresent() );
+        assertEquals( 1, report.get().getDetails( "MODULE_FINAL_MESSAGE_DECLARATION_CONSTRAINT" ).size() );
+
+        this.getModelValidator().getExcludedDetails().add( "MODULE_FINAL_MESSAGE_DECLARATION_CONSTRAINT" );
+        report = this.getModelValidator().validateModel( this.getModelContext(), model );
+        assertTrue( report.isPresent() );
+        assertTrue( report.get().getDetails( "MODULE_FINAL_MESSAGE_DECLARATION_CONSTRAINT" ).isEmpty() );
+        this.getModelValidator().getExcludedDetails().clear();
+
+        this.getModelContext().setAttribute( DefaultModelValidator.INCLUDED_DETAILS_ATTRIBUTE_NAME,
+                                             "SPECIFICATION_CLASS_CONSTRAINT, IMPLEMENTATION_CLASS_CONSTRAINT" );
+
+        report = this.getModelValidator().validateModel( this.getModelContext(), model );
+        assertTrue( report.isPresent() );
+        assertTrue( report.get().getDetails( "MODULE_FINAL_MESSAGE_DECLARATION_CONSTRAINT" ).isEmpty() );
+
+        this.getModelContext().setAttribute( DefaultModelValidator.INCLUDED_DETAILS_ATTRIBUTE_NAME,
+                                             Collections.singleton( "MODULE_FINAL_MESSAGE_DECLARATION_CONSTRAINT" ) );
+
+        report = this.getModelValidator().validateModel( this.getModelContext(), model );
+        assertTrue( report.isPresent() );
+        assertEquals( 1, report.get().getDetails( "MODULE_FINAL_MESSAGE_DECLARATION_CONSTRAINT" ).size() );
+    }
+
     private static void log( final ModelValidationReport report )
     {
         report.getDetails().forEach( d  -> System.out.println( "\t" + d.toString() ) );
@@ -0,0 +1,420 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model.modlet.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.jomc.model.ModelObject;
+import org.jomc.model.Module;
+import org.jomc.model.Modules;
+import org.jomc.model.ObjectFactory;
+import org.jomc.model.Text;
+import org.jomc.model.Texts;
+import org.jomc.model.modlet.ModulesCodec;
+import org.jomc.model.test.ImplementationTestType;
+import org.jomc.model.test.InstanceTestType;
+import org.jomc.model.test.ModulesConstraintsTestType;
+import org.jomc.model.test.TestSuite;
+import org.jomc.modlet.ModelContext;
+import org.jomc.modlet.ModelContextFactory;
+import org.junit.Test;
+import org.w3c.dom.Element;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Test cases for class {@code org.jomc.model.modlet.ModulesCodec}.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+public class ModulesCodecTest
+{
+
+    /**
+     * Constant to prefix relative resource names with.
+     */
+    private static final String ABSOLUTE_RESOURCE_NAME_PREFIX = "/org/jomc/model/test/";
+
+    /**
+     * Number of iterations of the benchmark.
+     */
+    private static final int BENCHMARK_ITERATIONS = 200;
+
+    /**
+     * The {@code ModelContext} instance tests are performed with.
+     */
+    private ModelContext modelContext;
+
+    /**
+     * Creates a new {@code ModulesCodecTest} instance.
+     */
+    public ModulesCodecTest()
+    {
+        super();
+    }
+
+    /**
+     * Gets the {@code ModelContext} instance tests are performed with.
+     *
+     * @return The {@code ModelContext} instance tests are performed with.
+     */
+    public ModelContext getModelContext()
+    {
+        if ( this.modelContext == null )
+        {
+            this.modelContext = ModelContextFactory.newInstance().newModelContext();
+        }
+
+        return this.modelContext;
+    }
+
+    @Test
+    public final void testModulesCodec() throws Exception
+    {
+        ModelHelperTest.assertNullPointerException( ()  -> ModulesCodec.decodeModules( null, null ) );
+        ModelHelperTest.assertNullPointerException( ()  -> ModulesCodec.decodeModules( this.getModelContext(), null ) );
+        ModelHelperTest.assertNullPointerException( ()  ->
+        {
+            ModulesCodec.encodeModules( this.getModelContext(), null, new ByteArrayOutputStream() );
+            return null;
+        } );
+
+        final byte[] encoded = encode( this.getModelContext(), new Modules() );
+
+        try
+        {
+            ModulesCodec.decodeModules( this.getModelContext(),
+                                        new ByteArrayInputStream( encoded, 0, encoded.length - 1 ) );
+
+            fail( "Expected IOException not thrown." );
+        }
+        catch ( final IOException e )
+        {
+            assertNotNull( e.getMessage() );
+            System.out.println( e.toString() );
+        }
+    }
+
+    @Test
+    public final void testRoundTrip() throws Exception
+    {
+        final List<Modules> testModules = this.getTestModules();
+        assertFalse( testModules.isEmpty() );
+
+        for ( final Modules modules : testModules )
+        {
+            final byte[] encoded = encode( this.getModelContext(), modules );
+            final Modules decoded = ModulesCodec.decodeModules( this.getModelContext(),
+                                                                new ByteArrayInputStream( encoded ) );
+
+            assertEquivalent( "modules", modules, decoded );
+            assertArrayEquals( encoded, encode( this.getModelContext(), decoded ) );
+        }
+    }
+
+    @Test
+    public final void testBenchmark() throws Exception
+    {
+        assumeTrue( Boolean.getBoolean( "org.jomc.model.test.benchmark" ) );
+
+        final Modules modules = new Modules();
+
+        for ( final Modules testModules : this.getTestModules() )
+        {
+            for ( final Module module : testModules.getModule() )
+            {
+                modules.getModule().add( new Module( module ) );
+            }
+        }
+
+        final Marshaller marshaller = this.getModelContext().createMarshaller( ModelObject.MODEL_PUBLIC_ID );
+        final Unmarshaller unmarshaller = this.getModelContext().createUnmarshaller( ModelObject.MODEL_PUBLIC_ID );
+        final ObjectFactory objectFactory = new ObjectFactory();
+
+        byte[] xml = null;
+        byte[] binary = null;
+        long xmlEncodeNanos = 0L;
+        long xmlDecodeNanos = 0L;
+        long binaryEncodeNanos = 0L;
+        long binaryDecodeNanos = 0L;
+
+        for ( int i = 0; i < BENCHMARK_ITERATIONS; i++ )
+        {
+            final boolean measure = i >= BENCHMARK_ITERATIONS / 2;
+
+            long t0 = System.nanoTime();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream( 65536 );
+            marshaller.marshal( objectFactory.createModules( modules ), out );
+            xml = out.toByteArray();
+            xmlEncodeNanos += measure ? System.nanoTime() - t0 : 0L;
+
+            t0 = System.nanoTime();
+            assertNotNull( unmarshaller.unmarshal( new ByteArrayInputStream( xml ) ) );
+            xmlDecodeNanos += measure ? System.nanoTime() - t0 : 0L;
+
+            t0 = System.nanoTime();
+            binary = encode( this.getModelContext(), modules );
+            binaryEncodeNanos += measure ? System.nanoTime() - t0 : 0L;
+
+            t0 = System.nanoTime();
+            assertNotNull( ModulesCodec.decodeModules( this.getModelContext(), new ByteArrayInputStream( binary ) ) );
+            binaryDecodeNanos += measure ? System.nanoTime() - t0 : 0L;
+        }
+
+        final int measured = BENCHMARK_ITERATIONS - BENCHMARK_ITERATIONS / 2;
+        System.out.println( "ModulesCodec benchmark (" + modules.getModule().size() + " modules, " + measured
+                                + " iterations):" );
+
+        System.out.println( "  XML:    " + xml.length + " bytes, encode " + xmlEncodeNanos / measured
+                                + "ns, decode " + xmlDecodeNanos / measured + "ns" );
+
+        System.out.println( "  Binary: " + binary.length + " bytes, encode " + binaryEncodeNanos / measured
+                                + "ns, decode " + binaryDecodeNanos / measured + "ns" );
+
+        assertTrue( binary.length < xml.length );
+    }
+
+    @Test
+    public final void testIllegalByteLength() throws Exception
+    {
+        final Module module = new Module();
+        module.setName( "IllegalByteLength" );
+
+        final Modules modules = new Modules();
+        modules.getModule().add( module );
+
+        final byte[] encoded = encode( this.getModelContext(), modules );
+        final byte[] name = module.getName().getBytes( StandardCharsets.UTF_8 );
+        int offset = -1;
+
+        for ( int i = 0, s0 = encoded.length - name.length; i <= s0 && offset < 0; i++ )
+        {
+            if ( Arrays.equals( name, Arrays.copyOfRange( encoded, i, i + name.length ) ) )
+            {
+                offset = i - 1;
+            }
+        }
+
+        assertTrue( offset > 0 );
+        assertEquals( name.length, encoded[offset] );
+
+        // Negative length.
+        assertIllegalEncoding( replace( encoded, offset, new byte[]
+                               {
+                                   (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F
+                               } ) );
+
+        // Length exceeding the remaining input.
+        assertIllegalEncoding( replace( encoded, offset, new byte[]
+                               {
+                                   (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07
+                               } ) );
+
+    }
+
+    private void assertIllegalEncoding( final byte[] encoded ) throws Exception
+    {
+        try
+        {
+            ModulesCodec.decodeModules( this.getModelContext(), new ByteArrayInputStream( encoded ) );
+            fail( "Expected IOException not thrown." );
+        }
+        catch ( final IOException e )
+        {
+            assertNotNull( e.getMessage() );
+            System.out.println( e.toString() );
+        }
+    }
+
+    private static byte[] replace( final byte[] bytes, final int offset, final byte[] replacement )
+    {
+        final byte[] replaced = Arrays.copyOf( bytes, bytes.length - 1 + replacement.length );
+        System.arraycopy( replacement, 0, replaced, offset, replacement.length );
+        System.arraycopy( bytes, offset + 1, replaced, offset + replacement.length, bytes.length - offset - 1 );
+        return replaced;
+    }
+
+    private List<Modules> getTestModules() throws Exception
+    {
+        final TestSuite testSuite = ( (JAXBElement<TestSuite>) this.getModelContext().createUnmarshaller(
+                                      ModelObject.MODEL_PUBLIC_ID ).unmarshal( this.getClass().getResource(
+                                      ABSOLUTE_RESOURCE_NAME_PREFIX + "ModulesTestSuite.xml" ) ) ).getValue();
+
+        final List<Object> candidates = new ArrayList<>();
+
+        for ( final ModulesConstraintsTestType test : testSuite.getModulesConstraintsTest() )
+        {
+            candidates.add( test.getModules() != null ? test.getModules().getAny() : null );
+        }
+        for ( final ImplementationTestType test : testSuite.getImplementationTest() )
+        {
+            candidates.add( test.getModules() != null ? test.getModules().getAny() : null );
+        }
+        for ( final InstanceTestType test : testSuite.getInstanceTest() )
+        {
+            candidates.add( test.getModules() != null ? test.getModules().getAny() : null );
+        }
+
+        final List<Modules> testModules = new ArrayList<>( candidates.size() );
+
+        for ( final Object candidate : candidates )
+        {
+            if ( candidate instanceof JAXBElement<?> && ( (JAXBElement<?>) candidate ).getValue() instanceof Modules )
+            {
+                testModules.add( (Modules) ( (JAXBElement<?>) candidate ).getValue() );
+            }
+        }
+
+        return testModules;
+    }
+
+    private static byte[] encode( final ModelContext context, final Modules modules ) throws Exception
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream( 65536 );
+        ModulesCodec.encodeModules( context, modules, out );
+        return out.toByteArray();
+    }
+
+    private static void assertEquivalent( final String path, final Object expected, final Object actual )
+        throws Exception
+    {
+        if ( expected == null || actual == null )
+        {
+            assertEquals( path, expected, actual );
+        }
+        else if ( expected instanceof List<?> )
+        {
+            final List<?> expectedList = (List<?>) expected;
+            final List<?> actualList = (List<?>) actual;
+            assertEquals( path + ".size()", expectedList.size(), actualList.size() );
+
+            for ( int i = 0, s0 = expectedList.size(); i < s0; i++ )
+            {
+                assertEquivalent( path + "[" + i + "]", expectedList.get( i ), actualList.get( i ) );
+            }
+        }
+        else if ( expected instanceof JAXBElement<?> )
+        {
+            assertEquals( path, ( (JAXBElement<?>) expected ).getName(), ( (JAXBElement<?>) actual ).getName() );
+            assertEquivalent( path, ( (JAXBElement<?>) expected ).getValue(),
+                              ( (JAXBElement<?>) actual ).getValue() );
+
+        }
+        else if ( expected instanceof Element )
+        {
+            assertEquals( path, toString( (Element) expected ), toString( (Element) actual ) );
+        }
+        else if ( expected instanceof XMLGregorianCalendar )
+        {
+            assertEquals( path, ( (XMLGregorianCalendar) expected ).toXMLFormat(),
+                          ( (XMLGregorianCalendar) actual ).toXMLFormat() );
+
+        }
+        else if ( expected instanceof ModelObject || expected instanceof Texts || expected instanceof Text )
+        {
+            assertEquals( path, expected.getClass(), actual.getClass() );
+
+            for ( final Method m : expected.getClass().getMethods() )
+            {
+                if ( isPropertyGetter( m ) )
+                {
+                    assertEquivalent( path + "." + m.getName() + "()", invoke( m, expected ), invoke( m, actual ) );
+                }
+            }
+        }
+        else
+        {
+            assertEquals( path, expected, actual );
+        }
+    }
+
+    private static boolean isPropertyGetter( final Method m )
+    {
+        final Class<?> type = m.getReturnType();
+
+        return !Modifier.isStatic( m.getModifiers() )
+                   && m.getParameterTypes().length == 0
+                   && ( m.getName().startsWith( "get" ) || m.getName().startsWith( "is" ) )
+                   && !"getClass".equals( m.getName() )
+                   && ( type == String.class || type == boolean.class || type == int.class || type.isEnum()
+                        || type == List.class || type == Object.class || type == XMLGregorianCalendar.class
+                        || ModelObject.class.isAssignableFrom( type ) || type == Texts.class );
+
+    }
+
+    private static Object invoke( final Method m, final Object o ) throws Exception
+    {
+        try
+        {
+            return m.invoke( o );
+        }
+        catch ( final InvocationTargetException e )
+        {
+            return e.getCause().getClass();
+        }
+    }
+
+    private static String toString( final Element element ) throws Exception
+    {
+        final Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty( OutputKeys.OMIT_XML_DECLARATION, "yes" );
+
+        final StringWriter writer = new StringWriter();
+        transformer.transform( new DOMSource( element ), new StreamResult( writer ) );
+        return writer.toString();
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model.modlet.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+import org.jomc.model.Module;
+import org.jomc.model.Modules;
+import org.jomc.model.modlet.ModulesSnapshot;
+import org.jomc.modlet.ModelContext;
+import org.jomc.modlet.ModelContextFactory;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for class {@code org.jomc.model.modlet.ModulesSnapshot}.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+public class ModulesSnapshotTest
+{
+
+    /**
+     * Creates a new {@code ModulesSnapshotTest} instance.
+     */
+    public ModulesSnapshotTest()
+    {
+        super();
+    }
+
+    @Test
+    public final void testModulesSnapshot() throws Exception
+    {
+        final ModelContext context = ModelContextFactory.newInstance().newModelContext();
+
+        ModelHelperTest.assertNullPointerException( ()  -> ModulesSnapshot.createModules( null ) );
+        ModelHelperTest.assertNullPointerException( ()  -> ModulesSnapshot.readModules( null, null ) );
+        ModelHelperTest.assertNullPointerException( ()  -> ModulesSnapshot.findModules( context, null ) );
+        ModelHelperTest.assertNullPointerException( ()  -> ModulesSnapshot.getModel( context, null ) );
+        ModelHelperTest.assertNullPointerException( ()  ->
+        {
+            ModulesSnapshot.writeModules( context, null, new ByteArrayOutputStream() );
+            return null;
+        } );
+
+        final Modules modules = new Modules();
+        final Module module = new Module();
+        module.setName( "Snapshot Module" );
+        module.setVersion( "1.0" );
+        modules.getModule().add( module );
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ModulesSnapshot.writeModules( context, modules, out );
+
+        final Modules read = ModulesSnapshot.readModules( context, new ByteArrayInputStream( out.toByteArray() ) );
+        assertNotNull( read );
+        assertEquals( 1, read.getModule().size() );
+        assertTrue( read.getModule( "Snapshot Module" ).isPresent() );
+        assertEquals( "1.0", read.getModule( "Snapshot Module" ).get().getVersion() );
+
+        final byte[] corrupt = out.toByteArray();
+        corrupt[0] = 0;
+
+        try
+        {
+            ModulesSnapshot.readModules( context, new ByteArrayInputStream( corrupt ) );
+            fail( "Expected IOException not thrown." );
+        }
+        catch ( final IOException e )
+        {
+            assertNotNull( e.getMessage() );
+            System.out.println( e.toString() );
+        }
+
+        final Optional<Modules> notFound =
+            ModulesSnapshot.findModules( context, "META-INF/jomc-modules-snapshot-test.snapshot" );
+
+        assertFalse( notFound.isPresent() );
+    }
+
+}
@@ -0,0 +1,238 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.jomc.model.Dependencies;
+import org.jomc.model.Dependency;
+import org.jomc.model.DependencyGraph;
+import org.jomc.model.Implementation;
+import org.jomc.model.Implementations;
+import org.jomc.model.Module;
+import org.jomc.model.Modules;
+import org.jomc.model.Specifications;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.jomc.model.test.ModelObjectTest.assertNullPointerException;
+import static org.jomc.model.test.ModelObjects.newModule;
+import static org.jomc.model.test.ModelObjects.newSpecification;
+import static org.jomc.model.test.ModelObjects.newSpecificationReference;
+
+/**
+ * Test cases for class {@code org.jomc.model.DependencyGraph}.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+public class DependencyGraphTest
+{
+
+    /**
+     * Creates a new {@code DependencyGraphTest} instance.
+     */
+    public DependencyGraphTest()
+    {
+        super();
+    }
+
+    @Test
+    public final void DependencyGraph() throws Exception
+    {
+        final Modules modules = newModules();
+        final DependencyGraph graph = modules.getDependencyGraph();
+
+        assertEquals( Arrays.asList( "A", "B", "B2", "C", "E" ), identifiers( graph.getImplementations() ) );
+        assertEquals( Arrays.asList( "B", "B2", "C" ), identifiers( graph.getDependencies( "A" ).get() ) );
+        assertEquals( Arrays.asList( "C" ), identifiers( graph.getDependencies( "B" ).get() ) );
+        assertEquals( Arrays.asList( "B2" ), identifiers( graph.getDependencies( "E" ).get() ) );
+        assertTrue( graph.getDependencies( "C" ).get().isEmpty() );
+        assertEquals( Arrays.asList( "A", "B" ), identifiers( graph.getDependents( "C" ).get() ) );
+        assertEquals( Arrays.asList( "A", "E" ), identifiers( graph.getDependents( "B2" ).get() ) );
+        assertEquals( Arrays.asList( "A", "E" ), identifiers( graph.getSpecificationDependents( "S2" ) ) );
+        assertEquals( Arrays.asList( "A", "B" ), identifiers( graph.getSpecificationDependents( "S3" ) ) );
+        assertTrue( graph.getSpecificationDependents( "S1" ).isEmpty() );
+        assertEquals( Arrays.asList( "B", "B2", "C" ), identifiers( graph.getTransitiveDependencies( "A" ).get() ) );
+        assertEquals( Arrays.asList( "B2" ), identifiers( graph.getTransitiveDependencies( "E" ).get() ) );
+        assertEquals( Arrays.asList( "A", "B" ), identifiers( graph.getTransitiveDependents( "C" ).get() ) );
+        assertTrue( graph.isAcyclic() );
+        assertEquals( Arrays.asList( "B2", "C", "E", "B", "A" ), identifiers( graph.getTopologicalOrder().get() ) );
+
+        assertFalse( graph.getDependencies( "UNKNOWN" ).isPresent() );
+        assertFalse( graph.getDependents( "UNKNOWN" ).isPresent() );
+        assertFalse( graph.getTransitiveDependencies( "UNKNOWN" ).isPresent() );
+        assertFalse( graph.getTransitiveDependents( "UNKNOWN" ).isPresent() );
+        assertNullPointerException( ()  -> graph.getDependencies( null ) );
+        assertNullPointerException( ()  -> graph.getSpecificationDependents( null ) );
+        assertNullPointerException( ()  -> new DependencyGraph( null ) );
+
+        // The graph does not reflect changes to the modules it has been built from.
+        final Implementation c = modules.getImplementation( "C" ).get();
+        c.setDependencies( new Dependencies() );
+        c.getDependencies().getDependency().add( newDependency( "S1", null ) );
+        assertTrue( graph.isAcyclic() );
+
+        final DependencyGraph cyclic = modules.getDependencyGraph();
+        assertFalse( cyclic.isAcyclic() );
+        assertFalse( cyclic.getTopologicalOrder().isPresent() );
+        assertEquals( Arrays.asList( "B", "B2", "C", "A" ),
+                      identifiers( cyclic.getTransitiveDependencies( "A" ).get() ) );
+
+    }
+
+    @Test
+    public final void CreationPlan() throws Exception
+    {
+        final Modules modules = newModules();
+        final List<String> roots = Arrays.asList( "A", "E", "UNKNOWN" );
+
+        // Objects of specifications without scope are created along with their dependents.
+        assertEquals( Arrays.asList( Arrays.asList( "A", "E" ) ), layers( modules.getDependencyGraph(), roots ) );
+
+        modules.getSpecification( "S3" ).get().setScope( "Singleton" );
+        assertEquals( Arrays.asList( Arrays.asList( "C", "E" ), Arrays.asList( "A" ) ),
+                      layers( modules.getDependencyGraph(), roots ) );
+
+        modules.getSpecification( "S2" ).get().setScope( "Singleton" );
+        assertEquals( Arrays.asList( Arrays.asList( "B2", "C" ), Arrays.asList( "B", "E" ), Arrays.asList( "A" ) ),
+                      layers( modules.getDependencyGraph(), roots ) );
+
+        assertEquals( Arrays.asList( Arrays.asList( "C" ), Arrays.asList( "B" ) ),
+                      layers( modules.getDependencyGraph(), Arrays.asList( "B" ) ) );
+
+        assertTrue( modules.getDependencyGraph().getCreationPlan( Arrays.<String>asList() ).get().isEmpty() );
+
+        // Creating C requires a new A requiring C.
+        final Implementation c = modules.getImplementation( "C" ).get();
+        c.setDependencies( new Dependencies() );
+        c.getDependencies().getDependency().add( newDependency( "S1", null ) );
+        assertFalse( modules.getDependencyGraph().getCreationPlan( roots ).isPresent() );
+
+        final DependencyGraph graph = modules.getDependencyGraph();
+        assertNullPointerException( ()  -> graph.getCreationPlan( null ) );
+        assertNullPointerException( ()  -> graph.getCreationPlan( Arrays.asList( "A", null ) ) );
+    }
+
+    @Test
+    public final void CreationPlanUnscopedCycle() throws Exception
+    {
+        final Modules modules = newModules();
+
+        // Creating B requires a new C requiring a new B, all without scope.
+        final Implementation c = modules.getImplementation( "C" ).get();
+        c.setDependencies( new Dependencies() );
+        c.getDependencies().getDependency().add( newDependency( "S2", "B" ) );
+
+        final DependencyGraph graph = modules.getDependencyGraph();
+        assertFalse( graph.getCreationPlan( Arrays.asList( "A" ) ).isPresent() );
+        assertFalse( graph.getCreationPlan( Arrays.asList( "B" ) ).isPresent() );
+        assertFalse( graph.getCreationPlan( Arrays.asList( "E", "C" ) ).isPresent() );
+        assertEquals( Arrays.asList( Arrays.asList( "E" ) ), layers( graph, Arrays.asList( "E" ) ) );
+    }
+
+    private static Modules newModules()
+    {
+        final Module module = newModule( "Module" );
+        module.setSpecifications( new Specifications() );
+        module.setImplementations( new Implementations() );
+
+        for ( final String identifier : Arrays.asList( "S1", "S2", "S3", "S4" ) )
+        {
+            module.getSpecifications().getSpecification().add( newSpecification( identifier ) );
+        }
+
+        module.getImplementations().getImplementation().add(
+            newImplementation( "A", "S1", newDependency( "S2", null ), newDependency( "S3", null ) ) );
+
+        module.getImplementations().getImplementation().add(
+            newImplementation( "B", "S2", newDependency( "S3", null ) ) );
+
+        module.getImplementations().getImplementation().add( newImplementation( "B2", "S2" ) );
+        module.getImplementations().getImplementation().add( newImplementation( "C", "S3" ) );
+        module.getImplementations().getImplementation().add(
+            newImplementation( "E", "S4", newDependency( "S2", "B2" ) ) );
+
+        return ModelObjects.newModules( module );
+    }
+
+    private static Implementation newImplementation( final String identifier, final String specification,
+                                                     final Dependency... dependencies )
+    {
+        final Implementation implementation = ModelObjects.newImplementation( identifier );
+        implementation.setSpecifications( new Specifications() );
+        implementation.getSpecifications().getReference().add( newSpecificationReference( specification ) );
+
+        if ( dependencies.length > 0 )
+        {
+            implementation.setDependencies( new Dependencies() );
+            implementation.getDependencies().getDependency().addAll( Arrays.asList( dependencies ) );
+        }
+
+        return implementation;
+    }
+
+    private static Dependency newDependency( final String specification, final String implementationName )
+    {
+        final Dependency dependency = ModelObjects.newDependency( specification, specification );
+        dependency.setImplementationName( implementationName );
+        return dependency;
+    }
+
+    private static List<List<String>> layers( final DependencyGraph graph, final List<String> roots )
+    {
+        final List<List<Implementation>> plan = graph.getCreationPlan( roots ).get();
+        final List<List<String>> layers = new ArrayList<>( plan.size() );
+
+        for ( int i = 0, s0 = plan.size(); i < s0; i++ )
+        {
+            layers.add( identifiers( plan.get( i ) ) );
+        }
+
+        return layers;
+    }
+
+    private static List<String> identifiers( final List<Implementation> implementations )
+    {
+        final String[] identifiers = new String[ implementations.size() ];
+
+        for ( int i = 0; i < identifiers.length; i++ )
+        {
+            identifiers[i] = implementations.get( i ).getIdentifier();
+        }
+
+        return Arrays.asList( identifiers );
+    }
+
+}
@@ -0,0 +1,213 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.jomc.model.ExecutionPolicy;
+import org.jomc.model.Modules;
+import org.jomc.model.Specification;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Test cases for class {@code org.jomc.model.ExecutionPolicy}.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+public class ExecutionPolicyTest
+{
+
+    /**
+     * Number of lookups performed per benchmark iteration.
+     */
+    private static final int BENCHMARK_LOOKUPS = 2000;
+
+    /**
+     * Number of benchmark iterations of which the second half is measured.
+     */
+    private static final int BENCHMARK_ITERATIONS = 20;
+
+    /**
+     * Creates a new {@code ExecutionPolicyTest} instance.
+     */
+    public ExecutionPolicyTest()
+    {
+        super();
+    }
+
+    @Test
+    public final void IsParallel() throws Exception
+    {
+        final ExecutionPolicy policy = new ExecutionPolicy( 10 );
+        assertEquals( 10, policy.getParallelThreshold() );
+        assertFalse( policy.isParallel( 9 ) );
+        assertTrue( policy.isParallel( 10 ) );
+        assertFalse( ExecutionPolicy.SEQUENTIAL.isParallel( Integer.MAX_VALUE - 1 ) );
+        assertTrue( ExecutionPolicy.PARALLEL.isParallel( 0 ) );
+
+        assertFalse( policy.stream( Collections.nCopies( 9, "" ) ).isParallel() );
+        assertTrue( policy.stream( Collections.nCopies( 10, "" ) ).isParallel() );
+
+        final ForkJoinPool pool = new ForkJoinPool( 2 );
+
+        try
+        {
+            assertFalse( pool.submit( () -> policy.isParallel( 10 ) ).get() );
+            assertTrue( pool.submit( () -> ExecutionPolicy.PARALLEL.isParallel( 10 ) ).get() );
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+
+        try
+        {
+            new ExecutionPolicy( -1 );
+            fail( "Expected 'IllegalArgumentException' not thrown." );
+        }
+        catch ( final IllegalArgumentException e )
+        {
+            System.out.println( e.toString() );
+        }
+    }
+
+    @Test
+    public final void DefaultParallelThreshold() throws Exception
+    {
+        try
+        {
+            ExecutionPolicy.setDefaultParallelThreshold( 5 );
+            assertEquals( 5, ExecutionPolicy.getDefaultParallelThreshold() );
+            assertEquals( 5, ExecutionPolicy.getDefault().getParallelThreshold() );
+            assertSame( ExecutionPolicy.getDefault(), new Modules().getExecutionPolicy() );
+
+            final Modules modules = new Modules();
+            modules.setExecutionPolicy( ExecutionPolicy.SEQUENTIAL );
+            assertSame( ExecutionPolicy.SEQUENTIAL, modules.getExecutionPolicy() );
+            assertSame( ExecutionPolicy.SEQUENTIAL,
+                        new Modules( modules, Collections.emptyMap() ).getExecutionPolicy() );
+
+            modules.setExecutionPolicy( null );
+            assertSame( ExecutionPolicy.getDefault(), modules.getExecutionPolicy() );
+        }
+        finally
+        {
+            ExecutionPolicy.setDefaultParallelThreshold( null );
+        }
+
+        assertTrue( ExecutionPolicy.getDefaultParallelThreshold() >= 0 );
+    }
+
+
+    @Test
+    public final void Benchmark() throws Exception
+    {
+        assumeTrue( Boolean.getBoolean( "org.jomc.model.test.benchmark" ) );
+
+        final List<ExecutionPolicy> policies = Arrays.asList(
+            ExecutionPolicy.SEQUENTIAL, ExecutionPolicy.PARALLEL,
+            new ExecutionPolicy( ExecutionPolicy.getDefaultParallelThreshold() ) );
+
+        for ( final int size : Arrays.asList( 5, 100000 ) )
+        {
+            final List<Specification> specifications = new ArrayList<>( size );
+
+            for ( int i = 0; i < size; i++ )
+            {
+                final Specification s = new Specification();
+                s.setIdentifier( "Specification " + i );
+                specifications.add( s );
+            }
+
+            final List<String> identifiers = new ArrayList<>( BENCHMARK_LOOKUPS );
+
+            for ( int i = 0; i < BENCHMARK_LOOKUPS; i++ )
+            {
+                identifiers.add( "Specification " + ( i * 7919 ) % size );
+            }
+
+            final int lookups = size < BENCHMARK_LOOKUPS ? BENCHMARK_LOOKUPS : 20;
+            final long[] nanos = new long[ policies.size() ];
+
+            for ( int i = 0; i < BENCHMARK_ITERATIONS; i++ )
+            {
+                final boolean measure = i >= BENCHMARK_ITERATIONS / 2;
+
+                for ( int p = 0, s0 = policies.size(); p < s0; p++ )
+                {
+                    final long t0 = System.nanoTime();
+                    lookup( policies.get( p ), specifications, identifiers, lookups );
+                    nanos[p] += measure ? System.nanoTime() - t0 : 0L;
+                }
+            }
+
+            final int measured = BENCHMARK_ITERATIONS - BENCHMARK_ITERATIONS / 2;
+            System.out.println( "ExecutionPolicy benchmark (" + size + " specifications, " + lookups + " lookups, "
+                                    + measured + " iterations)" );
+
+            System.out.println( "  Sequential:                " + nanos[0] / measured + " ns" );
+            System.out.println( "  Parallel:                  " + nanos[1] / measured + " ns" );
+            System.out.println( "  Default threshold (" + policies.get( 2 ).getParallelThreshold() + "): "
+                                    + nanos[2] / measured + " ns" );
+        }
+    }
+
+    private static void lookup( final ExecutionPolicy policy, final List<Specification> specifications,
+                                final List<String> identifiers, final int lookups )
+    {
+        for ( int i = 0; i < lookups; i++ )
+        {
+            final String identifier = identifiers.get( i );
+
+            try ( final Stream<Specification> st0 = policy.stream( specifications ) )
+            {
+                final Optional<Specification> specification =
+                    st0.filter( s  -> identifier.equals( s.getIdentifier() ) ).findFirst();
+
+                assertEquals( identifier, specification.get().getIdentifier() );
+            }
+        }
+    }
+
+}
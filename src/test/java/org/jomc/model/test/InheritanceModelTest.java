@@ -0,0 +1,192 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model.test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.jomc.model.Implementation;
+import org.jomc.model.ImplementationReference;
+import org.jomc.model.Implementations;
+import org.jomc.model.InheritanceModel;
+import org.jomc.model.Module;
+import org.jomc.model.Modules;
+import org.jomc.model.Properties;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.jomc.model.test.ModelObjectTest.assertNullPointerException;
+import static org.jomc.model.test.ModelObjects.newImplementationReference;
+import static org.jomc.model.test.ModelObjects.newModule;
+import static org.jomc.model.test.ModelObjects.newModules;
+import static org.jomc.model.test.ModelObjects.newProperty;
+
+/**
+ * Test cases for class {@code org.jomc.model.InheritanceModel}.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+public class InheritanceModelTest
+{
+
+    /**
+     * Creates a new {@code InheritanceModelTest} instance.
+     */
+    public InheritanceModelTest()
+    {
+        super();
+    }
+
+    @Test
+    public final void ImplementationReferenceCycles() throws Exception
+    {
+        final Module module = newModule( "Module" );
+        module.setImplementations( new Implementations() );
+        module.getImplementations().getImplementation().add( newImplementation( "A", "B" ) );
+        module.getImplementations().getImplementation().add( newImplementation( "B", "A" ) );
+        module.getImplementations().getImplementation().add( newImplementation( "C", "A" ) );
+        module.getImplementations().getImplementation().add( newImplementation( "D", "D" ) );
+        module.getImplementations().getImplementation().add( newImplementation( "E" ) );
+
+        final Modules modules = newModules( module );
+
+        final InheritanceModel model = new InheritanceModel( modules );
+        final List<Set<String>> cycles = model.getImplementationReferenceCycles();
+
+        assertEquals( 2, cycles.size() );
+        assertEquals( Arrays.asList( "A", "B" ), Arrays.asList( cycles.get( 0 ).toArray() ) );
+        assertEquals( Collections.singleton( "D" ), cycles.get( 1 ) );
+
+        final Set<InheritanceModel.Node<ImplementationReference>> cycleNodes = model.getCycleNodes( "A" );
+        assertEquals( 1, cycleNodes.size() );
+        assertEquals( Arrays.asList( "A", "B", "A" ), identifiers( cycleNodes.iterator().next().getPath() ) );
+
+        assertEquals( 1, model.getCycleNodes( "C" ).size() );
+        assertEquals( 1, model.getCycleNodes( "D" ).size() );
+        assertTrue( model.getCycleNodes( "E" ).isEmpty() );
+
+        final InheritanceModel.Node<Implementation> b = model.getSourceNodes( "C" ).stream().
+            filter( n  -> n.getModelObject().getIdentifier().equals( "B" ) ).findFirst().get();
+
+        assertEquals( Arrays.asList( "C", "A" ), identifiers( b.getPath() ) );
+    }
+
+    @Test
+    public final void EffectiveMembers() throws Exception
+    {
+        final Implementation a = newImplementation( "A", "B" );
+        a.setProperties( new Properties() );
+        a.getProperties().getProperty().add( newProperty( "P1" ) );
+
+        final Implementation b = newImplementation( "B" );
+        b.setProperties( new Properties() );
+        b.getProperties().getProperty().add( newProperty( "P2" ) );
+
+        final Module module = newModule( "Module" );
+        module.setImplementations( new Implementations() );
+        module.getImplementations().getImplementation().add( a );
+        module.getImplementations().getImplementation().add( b );
+
+        final Modules modules = newModules( module );
+
+        final InheritanceModel model = new InheritanceModel( modules );
+        final InheritanceModel.EffectiveMembers members = model.getEffectiveMembers( "A" ).get();
+
+        assertEquals( "A", members.getImplementation().getIdentifier() );
+        assertEquals( model.getPropertyNames( "A" ), members.getProperties().keySet() );
+        assertEquals( model.getPropertyNodes( "A", "P1" ), members.getProperties().get( "P1" ) );
+        assertEquals( model.getPropertyNodes( "A", "P2" ), members.getProperties().get( "P2" ) );
+        assertEquals( "B", members.getProperties().get( "P2" ).iterator().next().getImplementation().
+                      getIdentifier() );
+
+        assertEquals( model.getImplementationReferenceIdentifiers( "A" ),
+                      members.getImplementationReferences().keySet() );
+
+        assertTrue( members.getDependencies().isEmpty() );
+        assertTrue( members.getMessages().isEmpty() );
+        assertSame( members, model.getEffectiveMembers( "A" ).get() );
+        assertFalse( model.getEffectiveMembers( "UNKNOWN" ).isPresent() );
+        assertNullPointerException( ()  -> model.getEffectiveMembers( null ) );
+
+        try
+        {
+            members.getProperties().get( "P1" ).clear();
+            fail( "Expected 'UnsupportedOperationException' not thrown." );
+        }
+        catch ( final UnsupportedOperationException e )
+        {
+            System.out.println( e );
+        }
+
+        assertEquals( Arrays.asList( "A", "B" ), Arrays.asList(
+                      model.getEffectiveMembers().map( m  -> m.getImplementation().getIdentifier() ).toArray() ) );
+
+        assertEquals( Collections.singleton( "P2" ),
+                      model.getEffectiveMembers( "B" ).get().getProperties().keySet() );
+
+    }
+
+    private static Implementation newImplementation( final String identifier, final String... references )
+    {
+        final Implementation implementation = ModelObjects.newImplementation( identifier );
+
+        if ( references.length > 0 )
+        {
+            implementation.setImplementations( new Implementations() );
+
+            for ( final String reference : references )
+            {
+                implementation.getImplementations().getReference().add( newImplementationReference( reference ) );
+            }
+        }
+
+        return implementation;
+    }
+
+    private static List<String> identifiers( final List<InheritanceModel.Node<Implementation>> nodes )
+    {
+        final String[] identifiers = new String[ nodes.size() ];
+
+        for ( int i = 0; i < identifiers.length; i++ )
+        {
+            identifiers[i] = nodes.get( i ).getModelObject().getIdentifier();
+        }
+
+        return Arrays.asList( identifiers );
+    }
+
+}
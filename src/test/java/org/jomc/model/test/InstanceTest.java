@@ -31,10 +31,15 @@
 package org.jomc.model.test;
 
 import org.jomc.model.Instance;
+import org.jomc.model.Specification;
+import org.jomc.model.Specifications;
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Test cases for class {@code org.jomc.model.Instance}.
@@ -82,4 +87,40 @@ public class InstanceTest
         assertEquals( "getTestTest", i.getJavaFactoryMethodName().get() );
     }
 
+    @Test
+    public final void JavaReflectionMetadata() throws Exception
+    {
+        final ClassLoader classLoader = this.getClass().getClassLoader();
+        final Instance i = new Instance();
+        i.setName( "List" );
+        i.setClazz( "java.util.ArrayList" );
+        i.setSpecifications( new Specifications() );
+
+        final Specification s = new Specification();
+        s.setIdentifier( "java.util.List" );
+        s.setClazz( "java.util.List" );
+        i.getSpecifications().getSpecification().add( s );
+
+        assertSame( java.util.ArrayList.class, i.getJavaClass( classLoader ).get() );
+        assertSame( i.getJavaConstructor( classLoader ).get(), i.getJavaConstructor( classLoader ).get() );
+        assertTrue( i.isJavaClassAssignable( classLoader ) );
+        assertEquals( 1, i.getJavaClasses( classLoader ).length );
+        assertNotSame( i.getJavaClasses( classLoader ), i.getJavaClasses( classLoader ) );
+        assertSame( i.getJavaProxyClass( classLoader ).get(), i.getJavaProxyClass( classLoader ).get() );
+        assertFalse( i.getJavaFactoryMethod( classLoader ).isPresent() );
+
+        s.setClazz( "java.util.Set" );
+        assertFalse( i.isJavaClassAssignable( classLoader ) );
+        assertSame( java.util.Set.class, i.getJavaClasses( classLoader )[0] );
+
+        i.setClazz( "java.util.HashSet" );
+        assertSame( java.util.HashSet.class, i.getJavaClass( classLoader ).get() );
+        assertTrue( i.isJavaClassAssignable( classLoader ) );
+
+        i.setClazz( "java.lang.Runtime" );
+        i.setName( "Runtime" );
+        assertFalse( i.getJavaConstructor( classLoader ).isPresent() );
+        assertEquals( "getRuntime", i.getJavaFactoryMethod( classLoader ).get().getName() );
+    }
+
 }
@@ -0,0 +1,137 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model.test;
+
+import org.jomc.jls.JavaTypeName;
+import org.jomc.model.Instance;
+import org.jomc.model.JavaClassCache;
+import org.jomc.model.Specification;
+import org.jomc.model.Specifications;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for class {@code org.jomc.model.JavaClassCache}.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+public class JavaClassCacheTest
+{
+
+    /**
+     * Creates a new {@code JavaClassCacheTest} instance.
+     */
+    public JavaClassCacheTest()
+    {
+        super();
+    }
+
+    @Test
+    public final void GetClass() throws Exception
+    {
+        final JavaClassCache cache = new JavaClassCache();
+        final ClassLoader classLoader = this.getClass().getClassLoader();
+
+        assertSame( String.class, cache.getClass( JavaTypeName.parse( "java.lang.String" ), classLoader ) );
+        assertSame( String.class, cache.getClass( JavaTypeName.parse( "java.lang.String" ), classLoader ) );
+        assertSame( String.class, cache.getClass( JavaTypeName.parse( "java.lang.String" ), null ) );
+
+        try
+        {
+            cache.getClass( null, classLoader );
+            fail( "Expected 'NullPointerException' not thrown." );
+        }
+        catch ( final NullPointerException e )
+        {
+            assertNotNull( e.getMessage() );
+            System.out.println( e.toString() );
+        }
+    }
+
+    @Test
+    public final void GetClassRemembersFailedLookups() throws Exception
+    {
+        final JavaClassCache cache = new JavaClassCache();
+        final JavaTypeName unknown = JavaTypeName.parse( "org.jomc.model.test.DoesNotExist" );
+
+        for ( int i = 0; i < 2; i++ )
+        {
+            try
+            {
+                cache.getClass( unknown, this.getClass().getClassLoader() );
+                fail( "Expected 'ClassNotFoundException' not thrown." );
+            }
+            catch ( final ClassNotFoundException e )
+            {
+                assertTrue( e.getCause() instanceof ClassNotFoundException );
+                System.out.println( e.toString() );
+            }
+        }
+
+        cache.clear();
+
+        try
+        {
+            cache.getClass( unknown, this.getClass().getClassLoader() );
+            fail( "Expected 'ClassNotFoundException' not thrown." );
+        }
+        catch ( final ClassNotFoundException e )
+        {
+            System.out.println( e.toString() );
+        }
+    }
+
+    @Test
+    public final void InstanceJavaClasses() throws Exception
+    {
+        final JavaClassCache cache = new JavaClassCache();
+        final Instance i = new Instance();
+        i.setClazz( "java.util.ArrayList" );
+        i.setSpecifications( new Specifications() );
+
+        final Specification s = new Specification();
+        s.setClazz( "java.util.List" );
+        i.getSpecifications().getSpecification().add( s );
+
+        assertSame( java.util.ArrayList.class, i.getJavaClass( this.getClass().getClassLoader(), cache ).get() );
+        assertEquals( 1, i.getJavaClasses( this.getClass().getClassLoader(), cache ).length );
+        assertSame( java.util.List.class, i.getJavaClasses( this.getClass().getClassLoader(), cache )[0] );
+        assertTrue( i.isJavaClassAssignable( this.getClass().getClassLoader(), cache ) );
+        assertSame( java.util.List.class, s.getJavaClass( this.getClass().getClassLoader(), cache ).get() );
+    }
+
+}
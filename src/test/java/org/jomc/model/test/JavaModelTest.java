@@ -0,0 +1,169 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model.test;
+
+import java.util.Arrays;
+import org.jomc.model.Dependencies;
+import org.jomc.model.Dependency;
+import org.jomc.model.Implementation;
+import org.jomc.model.Implementations;
+import org.jomc.model.JavaModel;
+import org.jomc.model.Message;
+import org.jomc.model.Messages;
+import org.jomc.model.Module;
+import org.jomc.model.Modules;
+import org.jomc.model.Multiplicity;
+import org.jomc.model.Properties;
+import org.jomc.model.Property;
+import org.jomc.model.Specification;
+import org.jomc.model.Specifications;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.jomc.model.test.ModelObjectTest.assertNullPointerException;
+import static org.jomc.model.test.ModelObjects.newDependency;
+import static org.jomc.model.test.ModelObjects.newImplementation;
+import static org.jomc.model.test.ModelObjects.newMessage;
+import static org.jomc.model.test.ModelObjects.newModule;
+import static org.jomc.model.test.ModelObjects.newModules;
+import static org.jomc.model.test.ModelObjects.newSpecification;
+import static org.jomc.model.test.ModelObjects.newSpecificationReference;
+
+/**
+ * Test cases for class {@code org.jomc.model.JavaModel}.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+public class JavaModelTest
+{
+
+    /**
+     * Creates a new {@code JavaModelTest} instance.
+     */
+    public JavaModelTest()
+    {
+        super();
+    }
+
+    @Test
+    public final void JavaModel() throws Exception
+    {
+        final Specification specification = newSpecification( "Specification" );
+        specification.setClazz( "test.Specification" );
+        specification.setMultiplicity( Multiplicity.MANY );
+        specification.setProperties( new Properties() );
+        specification.getProperties().getProperty().add( newProperty( "specifiedProperty", null ) );
+
+        final Implementation implementation = newImplementation( "Implementation" );
+        implementation.setClazz( "test.Implementation" );
+        implementation.setSpecifications( new Specifications() );
+        implementation.getSpecifications().getReference().add( newSpecificationReference( "Specification" ) );
+
+        final Dependency dependency = newDependency( "specification", "Specification" );
+        implementation.setDependencies( new Dependencies() );
+        implementation.getDependencies().getDependency().add( dependency );
+
+        implementation.setProperties( new Properties() );
+        implementation.getProperties().getProperty().add( newProperty( "enabled", "boolean" ) );
+        implementation.getProperties().getProperty().add( newProperty( "specifiedProperty", null ) );
+
+        final Message message = newMessage( "message" );
+        implementation.setMessages( new Messages() );
+        implementation.getMessages().getMessage().add( message );
+
+        final Module module = newModule( "Module" );
+        module.setSpecifications( new Specifications() );
+        module.getSpecifications().getSpecification().add( specification );
+        module.setImplementations( new Implementations() );
+        module.getImplementations().getImplementation().add( implementation );
+
+        final Modules modules = newModules( module );
+
+        final JavaModel model = modules.getJavaModel();
+        assertEquals( 1, model.getTypes().size() );
+
+        final JavaModel.Type type = model.getType( "Implementation" ).get();
+        assertEquals( implementation.getJavaTypeName(), type.getJavaTypeName() );
+        assertEquals( modules.getImplementedJavaTypeNames( "Implementation" ).get(),
+                      type.getImplementedJavaTypeNames() );
+
+        final JavaModel.Member d = type.getDependency( "specification" ).get();
+        assertEquals( modules.getDependencyJavaTypeName( "Implementation", "specification" ), d.getJavaTypeName() );
+        assertEquals( modules.getDependencyJavaModifierName( "Implementation", "specification" ).get(),
+                      d.getJavaModifierName() );
+
+        assertEquals( dependency.getJavaGetterMethodName(), d.getJavaGetterMethodName() );
+        assertEquals( dependency.getJavaConstantName(), d.getJavaConstantName() );
+
+        assertEquals( Arrays.asList( "enabled", "specifiedProperty" ), Arrays.asList(
+                      type.getProperties().stream().map( p  -> p.getName() ).toArray() ) );
+
+        for ( final JavaModel.Member p : type.getProperties() )
+        {
+            final Property property = modules.getProperties( "Implementation" ).get().
+                getProperty( p.getName() ).get();
+
+            assertEquals( property.getJavaTypeName(), p.getJavaTypeName().get() );
+            assertEquals( property.getJavaGetterMethodName(), p.getJavaGetterMethodName() );
+            assertEquals( property.getJavaSetterMethodName(), p.getJavaSetterMethodName() );
+            assertEquals( property.getJavaVariableName(), p.getJavaVariableName() );
+            assertEquals( modules.getPropertyJavaModifierName( "Implementation", p.getName() ).get(),
+                          p.getJavaModifierName() );
+
+        }
+
+        assertEquals( "public", type.getProperty( "specifiedProperty" ).get().getJavaModifierName() );
+        assertEquals( "private", type.getProperty( "enabled" ).get().getJavaModifierName() );
+
+        final JavaModel.Member m = type.getMessage( "message" ).get();
+        assertFalse( m.getJavaTypeName().isPresent() );
+        assertEquals( message.getJavaVariableName(), m.getJavaVariableName() );
+        assertEquals( modules.getMessageJavaModifierName( "Implementation", "message" ).get(),
+                      m.getJavaModifierName() );
+
+        assertFalse( model.getType( "UNKNOWN" ).isPresent() );
+        assertFalse( type.getDependency( "UNKNOWN" ).isPresent() );
+        assertNullPointerException( ()  -> model.getType( null ) );
+        assertNullPointerException( ()  -> type.getProperty( null ) );
+        assertNullPointerException( ()  -> new JavaModel( null ) );
+    }
+
+    private static Property newProperty( final String name, final String type )
+    {
+        final Property property = ModelObjects.newProperty( name );
+        property.setType( type );
+        property.setValue( "true" );
+        return property;
+    }
+
+}
@@ -30,10 +30,15 @@
  */
 package org.jomc.model.test;
 
+import java.text.MessageFormat;
+import java.util.Locale;
 import org.jomc.jls.JavaIdentifier;
 import org.jomc.model.Message;
+import org.jomc.model.Text;
+import org.jomc.model.Texts;
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 
 /**
  * Test cases for class {@code org.jomc.model.Message}.
@@ -93,4 +98,41 @@ public class MessageTest
         assertEquals( JavaIdentifier.valueOf( "testTest" ), m.getJavaVariableName() );
     }
 
+    @Test
+    public final void JavaMessage() throws Exception
+    {
+        final Text en = new Text();
+        en.setLanguage( "en" );
+        en.setValue( "Hello {0}" );
+
+        final Message m = new Message();
+        m.setTemplate( new Texts() );
+        m.getTemplate().setDefaultLanguage( "en" );
+        m.getTemplate().getText().add( en );
+
+        final MessageFormat f1 = m.getJavaMessage( Locale.ENGLISH );
+        final MessageFormat f2 = m.getJavaMessage( Locale.ENGLISH );
+        assertNotSame( f1, f2 );
+        assertEquals( "Hello World", f1.format( new Object[]
+        {
+            "World"
+        } ) );
+
+        f1.applyPattern( "Modified {0}" );
+        assertEquals( "Hello {0}", m.getJavaMessage( Locale.ENGLISH ).toPattern() );
+
+        en.setValue( "Hi {0}" );
+        assertEquals( "Hi {0}", m.getJavaMessage( Locale.ENGLISH ).toPattern() );
+
+        final Text de = new Text();
+        de.setLanguage( "de" );
+        de.setValue( "Hallo {0}" );
+        m.getTemplate().getText().add( de );
+        assertEquals( "Hallo {0}", m.getJavaMessage( Locale.GERMAN ).toPattern() );
+        assertEquals( Locale.GERMAN, m.getJavaMessage( Locale.GERMAN ).getLocale() );
+
+        en.setValue( "Hi {0" );
+        ModelObjectTest.assertModelObjectException( ()  -> m.getJavaMessage( Locale.ENGLISH ) );
+    }
+
 }
@@ -40,7 +40,11 @@ import org.jomc.model.ModelObject;
 import org.jomc.model.ModelObjectException;
 import org.jomc.model.PropertyException;
 import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /**
@@ -73,12 +77,25 @@ public class ModelObjectTest
             return super.getAnyElement( any, namespaceURI, localPart, type );
         }
 
+        @Override
+        public <T> List<JAXBElement<T>> getAnyElements( final List<Object> any, final String namespaceURI,
+                                                        final String localPart, final Class<T> type )
+        {
+            return super.getAnyElements( any, namespaceURI, localPart, type );
+        }
+
         @Override
         public <T> Optional<T> getAnyObject( final List<Object> any, final Class<T> clazz )
         {
             return super.getAnyObject( any, clazz );
         }
 
+        @Override
+        public <T> List<T> getAnyObjects( final List<Object> any, final Class<T> clazz )
+        {
+            return super.getAnyObjects( any, clazz );
+        }
+
     }
 
     @Test
@@ -107,6 +124,50 @@ public class ModelObjectTest
         assertIllegalStateException( ()  -> modelObject.getAnyObject( any, String.class ) );
     }
 
+    @Test
+    public final void AnyIndex() throws Exception
+    {
+        final TestModelObject modelObject = new TestModelObject();
+        final List<Object> any = new ArrayList<Object>( 10 );
+        final QName name = new QName( "http://jomc.org/model", "test" );
+        final JAXBElement<String> element = new JAXBElement<String>( name, String.class, null, "ELEMENT" );
+        any.add( element );
+        any.add( "TEST" );
+
+        assertSame( element, modelObject.getAnyElement( any, "http://jomc.org/model", "test", String.class ).get() );
+        assertFalse( modelObject.getAnyElement( any, "http://jomc.org/model", "test", Integer.class ).isPresent() );
+        assertFalse( modelObject.getAnyElement( any, "http://jomc.org/model", "other", String.class ).isPresent() );
+        assertEquals( 1, modelObject.getAnyElements( any, "http://jomc.org/model", "test", String.class ).size() );
+        assertEquals( 2, modelObject.getAnyObjects( any, String.class ).size() );
+        assertSame( modelObject.getAnyObjects( any, String.class ), modelObject.getAnyObjects( any, String.class ) );
+        assertIllegalStateException( ()  -> modelObject.getAnyObject( any, String.class ) );
+
+        // Mutations of the list are reflected by subsequent lookups.
+        any.remove( 1 );
+        assertEquals( "ELEMENT", modelObject.getAnyObject( any, String.class ).get() );
+
+        any.set( 0, 1 );
+        assertFalse( modelObject.getAnyElement( any, "http://jomc.org/model", "test", String.class ).isPresent() );
+        assertEquals( Integer.valueOf( 1 ), modelObject.getAnyObject( any, Integer.class ).get() );
+        assertTrue( modelObject.getAnyObjects( any, String.class ).isEmpty() );
+
+        any.set( 0, element );
+        element.setValue( "VALUE" );
+        assertEquals( "VALUE", modelObject.getAnyObject( any, String.class ).get() );
+
+        any.add( new JAXBElement<Integer>( name, Integer.class, null, 2 ) );
+        assertEquals( 1, modelObject.getAnyElements( any, "http://jomc.org/model", "test", Integer.class ).size() );
+        assertIllegalStateException( ()  -> modelObject.getAnyElement( any, "http://jomc.org/model", "test",
+                                                                        String.class ) );
+
+        // Lookups on other lists are not answered from the index of a previous list.
+        assertTrue( modelObject.getAnyObjects( new ArrayList<Object>( any.subList( 1, 2 ) ), String.class ).
+            isEmpty() );
+
+        assertNullPointerException( ()  -> modelObject.getAnyObjects( null, String.class ) );
+        assertNullPointerException( ()  -> modelObject.getAnyElements( any, null, "test", String.class ) );
+    }
+
     static void assertIllegalStateException( final Callable<?> test ) throws Exception
     {
         try
@@ -0,0 +1,169 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model.test;
+
+import org.jomc.model.Dependency;
+import org.jomc.model.Implementation;
+import org.jomc.model.ImplementationReference;
+import org.jomc.model.Instance;
+import org.jomc.model.Message;
+import org.jomc.model.MessageReference;
+import org.jomc.model.Module;
+import org.jomc.model.Modules;
+import org.jomc.model.Property;
+import org.jomc.model.PropertyReference;
+import org.jomc.model.Specification;
+import org.jomc.model.SpecificationReference;
+import org.jomc.model.Specifications;
+import org.jomc.model.Texts;
+
+/**
+ * Model object fixtures shared by test cases.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+final class ModelObjects
+{
+
+    /**
+     * Prevents instantiation.
+     */
+    private ModelObjects()
+    {
+        super();
+    }
+
+    static Modules newModules( final Module... modules )
+    {
+        final Modules newModules = new Modules();
+
+        for ( final Module module : modules )
+        {
+            newModules.getModule().add( module );
+        }
+
+        return newModules;
+    }
+
+    static Module newModule( final String name )
+    {
+        final Module module = new Module();
+        module.setName( name );
+        return module;
+    }
+
+    static Specification newSpecification( final String identifier )
+    {
+        final Specification specification = new Specification();
+        specification.setIdentifier( identifier );
+        return specification;
+    }
+
+    static SpecificationReference newSpecificationReference( final String identifier )
+    {
+        final SpecificationReference reference = new SpecificationReference();
+        reference.setIdentifier( identifier );
+        return reference;
+    }
+
+    static Implementation newImplementation( final String identifier )
+    {
+        final Implementation implementation = new Implementation();
+        implementation.setIdentifier( identifier );
+        implementation.setName( identifier );
+        return implementation;
+    }
+
+    static ImplementationReference newImplementationReference( final String identifier )
+    {
+        final ImplementationReference reference = new ImplementationReference();
+        reference.setIdentifier( identifier );
+        return reference;
+    }
+
+    static Dependency newDependency( final String name, final String identifier )
+    {
+        final Dependency dependency = new Dependency();
+        dependency.setName( name );
+        dependency.setIdentifier( identifier );
+        return dependency;
+    }
+
+    static Property newProperty( final String name )
+    {
+        final Property property = new Property();
+        property.setName( name );
+        return property;
+    }
+
+    static PropertyReference newPropertyReference( final String name )
+    {
+        final PropertyReference reference = new PropertyReference();
+        reference.setName( name );
+        return reference;
+    }
+
+    static Message newMessage( final String name )
+    {
+        final Message message = new Message();
+        message.setName( name );
+        message.setTemplate( new Texts() );
+        return message;
+    }
+
+    static MessageReference newMessageReference( final String name )
+    {
+        final MessageReference reference = new MessageReference();
+        reference.setName( name );
+        return reference;
+    }
+
+    static Instance newInstance( final String clazz, final String name, final String... specificationClasses )
+    {
+        final Instance instance = new Instance();
+        instance.setIdentifier( name );
+        instance.setName( name );
+        instance.setClazz( clazz );
+        instance.setSpecifications( new Specifications() );
+
+        for ( final String specificationClass : specificationClasses )
+        {
+            final Specification specification = newSpecification( specificationClass );
+            specification.setClazz( specificationClass );
+            instance.getSpecifications().getSpecification().add( specification );
+        }
+
+        return instance;
+    }
+
+}
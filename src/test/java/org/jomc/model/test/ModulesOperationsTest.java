@@ -0,0 +1,602 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.model.test;
+
+import java.util.List;
+import java.util.Optional;
+import org.jomc.model.Dependencies;
+import org.jomc.model.Dependency;
+import org.jomc.model.ExecutionPolicy;
+import org.jomc.model.Implementation;
+import org.jomc.model.ImplementationReference;
+import org.jomc.model.Implementations;
+import org.jomc.model.Instance;
+import org.jomc.model.JavaClassCache;
+import org.jomc.model.Messages;
+import org.jomc.model.Module;
+import org.jomc.model.Modules;
+import org.jomc.model.Properties;
+import org.jomc.model.Specification;
+import org.jomc.model.SpecificationReference;
+import org.jomc.model.Specifications;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+import static org.jomc.model.test.ModelObjects.newDependency;
+import static org.jomc.model.test.ModelObjects.newImplementation;
+import static org.jomc.model.test.ModelObjects.newImplementationReference;
+import static org.jomc.model.test.ModelObjects.newInstance;
+import static org.jomc.model.test.ModelObjects.newMessage;
+import static org.jomc.model.test.ModelObjects.newMessageReference;
+import static org.jomc.model.test.ModelObjects.newModule;
+import static org.jomc.model.test.ModelObjects.newModules;
+import static org.jomc.model.test.ModelObjects.newProperty;
+import static org.jomc.model.test.ModelObjects.newPropertyReference;
+import static org.jomc.model.test.ModelObjects.newSpecification;
+import static org.jomc.model.test.ModelObjects.newSpecificationReference;
+
+/**
+ * Test cases for the operations of class {@code org.jomc.model.Modules}.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+public class ModulesOperationsTest
+{
+
+    /**
+     * Number of objects created by the object creation benchmark of which the second half is measured.
+     */
+    private static final int CREATE_OBJECT_ITERATIONS = 20000;
+
+    /**
+     * Creates a new {@code ModulesOperationsTest} instance.
+     */
+    public ModulesOperationsTest()
+    {
+        super();
+    }
+
+    @Test
+    public final void CollectedModelObjectsOrder() throws Exception
+    {
+        final Implementation child = newImplementation( "Child" );
+        child.setDependencies( new Dependencies() );
+        child.getDependencies().getDependency().add( newDependency( "D3", "S2" ) );
+        child.getDependencies().getDependency().add( newDependency( "D1", "S1" ) );
+        child.setProperties( new Properties() );
+        child.getProperties().getProperty().add( newProperty( "P2" ) );
+        child.getProperties().getProperty().add( newProperty( "P1" ) );
+        child.setMessages( new Messages() );
+        child.getMessages().getMessage().add( newMessage( "M2" ) );
+        child.getMessages().getMessage().add( newMessage( "M1" ) );
+        child.setSpecifications( new Specifications() );
+        child.getSpecifications().getReference().add( newSpecificationReference( "S2" ) );
+        child.setImplementations( new Implementations() );
+        child.getImplementations().getReference().add( newImplementationReference( "Parent" ) );
+
+        final Implementation parent = newImplementation( "Parent" );
+        parent.setDependencies( new Dependencies() );
+        parent.getDependencies().getDependency().add( newDependency( "D2", "S1" ) );
+        parent.getDependencies().getDependency().add( newDependency( "D1", "S1" ) );
+        parent.setProperties( new Properties() );
+        parent.getProperties().getProperty().add( newProperty( "P3" ) );
+        parent.getProperties().getProperty().add( newProperty( "P1" ) );
+        parent.setMessages( new Messages() );
+        parent.getMessages().getMessage().add( newMessage( "M1" ) );
+        parent.getMessages().getMessage().add( newMessage( "M0" ) );
+        parent.setSpecifications( new Specifications() );
+        parent.getSpecifications().getReference().add( newSpecificationReference( "S2" ) );
+        parent.getSpecifications().getReference().add( newSpecificationReference( "S1" ) );
+
+        final Module module = newModule( "Module" );
+        module.setSpecifications( new Specifications() );
+        module.getSpecifications().getSpecification().add( newSpecification( "S2" ) );
+        module.getSpecifications().getSpecification().add( newSpecification( "S1" ) );
+        module.setImplementations( new Implementations() );
+        module.getImplementations().getImplementation().add( child );
+        module.getImplementations().getImplementation().add( parent );
+
+        final Modules modules = newModules( module );
+
+        final Optional<Dependencies> dependencies = modules.getDependencies( "Child" );
+        assertTrue( dependencies.isPresent() );
+        assertEquals( 3, dependencies.get().getDependency().size() );
+        assertEquals( "D1", dependencies.get().getDependency().get( 0 ).getName() );
+        assertEquals( "D2", dependencies.get().getDependency().get( 1 ).getName() );
+        assertEquals( "D3", dependencies.get().getDependency().get( 2 ).getName() );
+        assertSame( child.getDependencies().getDependency().get( 1 ),
+                    dependencies.get().getDependency().get( 0 ) );
+
+        final Optional<Properties> properties = modules.getProperties( "Child" );
+        assertTrue( properties.isPresent() );
+        assertEquals( 3, properties.get().getProperty().size() );
+        assertEquals( "P1", properties.get().getProperty().get( 0 ).getName() );
+        assertEquals( "P2", properties.get().getProperty().get( 1 ).getName() );
+        assertEquals( "P3", properties.get().getProperty().get( 2 ).getName() );
+        assertSame( child.getProperties().getProperty().get( 1 ), properties.get().getProperty().get( 0 ) );
+
+        final Optional<Messages> messages = modules.getMessages( "Child" );
+        assertTrue( messages.isPresent() );
+        assertEquals( 3, messages.get().getMessage().size() );
+        assertEquals( "M0", messages.get().getMessage().get( 0 ).getName() );
+        assertEquals( "M1", messages.get().getMessage().get( 1 ).getName() );
+        assertEquals( "M2", messages.get().getMessage().get( 2 ).getName() );
+        assertSame( child.getMessages().getMessage().get( 1 ), messages.get().getMessage().get( 1 ) );
+
+        final Optional<Specifications> specifications = modules.getSpecifications( "Child" );
+        assertTrue( specifications.isPresent() );
+        assertEquals( 2, specifications.get().getSpecification().size() );
+        assertEquals( "S1", specifications.get().getSpecification().get( 0 ).getIdentifier() );
+        assertEquals( "S2", specifications.get().getSpecification().get( 1 ).getIdentifier() );
+        assertEquals( 2, specifications.get().getReference().size() );
+        assertEquals( "S1", specifications.get().getReference().get( 0 ).getIdentifier() );
+        assertEquals( "S2", specifications.get().getReference().get( 1 ).getIdentifier() );
+        assertSame( child.getSpecifications().getReference().get( 0 ),
+                    specifications.get().getReference().get( 1 ) );
+    }
+
+    @Test
+    public final void MergedModule() throws Exception
+    {
+        final Implementation referencing = newImplementation( "Referencing" );
+        referencing.setMessages( new Messages() );
+        referencing.getMessages().getReference().add( newMessageReference( "M1" ) );
+        referencing.getMessages().getReference().add( newMessageReference( "Unresolved" ) );
+        referencing.setProperties( new Properties() );
+        referencing.getProperties().getReference().add( newPropertyReference( "P1" ) );
+
+        final Implementation plain = newImplementation( "Plain" );
+
+        final Module module1 = newModule( "Module 1" );
+        module1.setImplementations( new Implementations() );
+        module1.getImplementations().getImplementation().add( referencing );
+        module1.getImplementations().getImplementation().add( plain );
+        module1.setMessages( new Messages() );
+        module1.getMessages().getMessage().add( newMessage( "M1" ) );
+        module1.getMessages().getMessage().add( newMessage( "M2" ) );
+        module1.setProperties( new Properties() );
+        module1.getProperties().getProperty().add( newProperty( "P1" ) );
+        module1.getProperties().getProperty().add( newProperty( "P2" ) );
+
+        final Module module2 = newModule( "Module 2" );
+        module2.setSpecifications( new Specifications() );
+        module2.getSpecifications().getSpecification().add( newSpecification( "S1" ) );
+
+        final Modules modules = newModules( module1, module2 );
+
+        final Module merged = modules.getMergedModule( "Merged" );
+        assertEquals( "Merged", merged.getName() );
+        assertEquals( 2, merged.getImplementations().getImplementation().size() );
+        assertSame( plain, merged.getImplementations().getImplementation().get( 1 ) );
+
+        final Implementation resolved = merged.getImplementations().getImplementation().get( 0 );
+        assertNotSame( referencing, resolved );
+        assertEquals( "Referencing", resolved.getIdentifier() );
+        assertEquals( 1, resolved.getMessages().getMessage().size() );
+        assertEquals( "M1", resolved.getMessages().getMessage().get( 0 ).getName() );
+        assertEquals( 1, resolved.getMessages().getReference().size() );
+        assertEquals( "Unresolved", resolved.getMessages().getReference().get( 0 ).getName() );
+        assertEquals( 1, resolved.getProperties().getProperty().size() );
+        assertTrue( resolved.getProperties().getReference().isEmpty() );
+        assertEquals( 2, referencing.getMessages().getReference().size() );
+        assertTrue( referencing.getMessages().getMessage().isEmpty() );
+
+        assertEquals( 1, merged.getMessages().getMessage().size() );
+        assertEquals( "M2", merged.getMessages().getMessage().get( 0 ).getName() );
+        assertEquals( 1, merged.getProperties().getProperty().size() );
+        assertEquals( "P2", merged.getProperties().getProperty().get( 0 ).getName() );
+        assertEquals( 1, merged.getSpecifications().getSpecification().size() );
+        assertEquals( "S1", merged.getSpecifications().getSpecification().get( 0 ).getIdentifier() );
+        assertEquals( 2, module1.getMessages().getMessage().size() );
+    }
+
+    @Test
+    public final void NameIndexes() throws Exception
+    {
+        final Dependencies dependencies = new Dependencies();
+        assertFalse( dependencies.getDependency( "D1" ).isPresent() );
+
+        final Dependency d1 = newDependency( "D1", "S1" );
+        final Dependency d2 = newDependency( "D2", "S1" );
+        dependencies.getDependency().add( d1 );
+        dependencies.getDependency().add( d2 );
+        assertSame( d1, dependencies.getDependency( "D1" ).get() );
+        assertSame( d2, dependencies.getDependency( "D2" ).get() );
+
+        final Dependency duplicate = newDependency( "D1", "S2" );
+        dependencies.getDependency().add( duplicate );
+        assertSame( d1, dependencies.getDependency( "D1" ).get() );
+
+        dependencies.getDependency().remove( d1 );
+        assertSame( duplicate, dependencies.getDependency( "D1" ).get() );
+
+        d2.setName( "Renamed" );
+        assertSame( d2, dependencies.getDependency( "Renamed" ).get() );
+        assertFalse( dependencies.getDependency( "D2" ).isPresent() );
+
+        final Dependency replacement = newDependency( "D3", "S1" );
+        dependencies.getDependency().set( 0, replacement );
+        assertSame( replacement, dependencies.getDependency( "D3" ).get() );
+        assertFalse( dependencies.getDependency( "D1" ).isPresent() );
+
+        final Properties properties = new Properties();
+        properties.getProperty().add( newProperty( "P1" ) );
+        properties.getReference().add( newPropertyReference( "R1" ) );
+        assertTrue( properties.getProperty( "P1" ).isPresent() );
+        assertFalse( properties.getProperty( "R1" ).isPresent() );
+        assertTrue( properties.getReference( "R1" ).isPresent() );
+        assertFalse( properties.getReference( "P1" ).isPresent() );
+
+        final Messages messages = new Messages();
+        messages.getMessage().add( newMessage( "M1" ) );
+        messages.getReference().add( newMessageReference( "R1" ) );
+        assertTrue( messages.getMessage( "M1" ).isPresent() );
+        assertTrue( messages.getReference( "R1" ).isPresent() );
+        assertFalse( messages.getReference( "M1" ).isPresent() );
+
+        final Implementation implementation = new Implementation();
+        implementation.setIdentifier( "Identifier" );
+        implementation.setName( "Name" );
+        final Implementations implementations = new Implementations();
+        implementations.getImplementation().add( implementation );
+        assertSame( implementation, implementations.getImplementation( "Identifier" ).get() );
+        assertSame( implementation, implementations.getImplementationByName( "Name" ).get() );
+        assertFalse( implementations.getImplementation( "Name" ).isPresent() );
+        assertFalse( implementations.getImplementationByName( "Identifier" ).isPresent() );
+    }
+
+    @Test
+    public final void GetClasspathModule() throws Exception
+    {
+        final ClassLoader classLoader = this.getClass().getClassLoader();
+        final Implementation i1 = newImplementation( "I1" );
+        i1.setSpecifications( new Specifications() );
+        i1.getSpecifications().getReference().add( newSpecificationReference( "java.util.Locale" ) );
+        i1.setDependencies( new Dependencies() );
+        i1.getDependencies().getDependency().add( newDependency( "D1", "java.util.Locale" ) );
+        i1.getDependencies().getDependency().add( newDependency( "D2", "org.jomc.model.test.DoesNotExist" ) );
+        i1.getDependencies().getDependency().add( newDependency( "D3", "java.util.ArrayList" ) );
+        i1.getDependencies().getDependency().add( newDependency( "D4", "java.util.List" ) );
+
+        final Implementation i2 = newImplementation( "I2" );
+        i2.setDependencies( new Dependencies() );
+        i2.getDependencies().getDependency().add( newDependency( "D1", "java.util.Locale" ) );
+        i2.getDependencies().getDependency().add( newDependency( "D2", "org.jomc.model.test.DoesNotExist" ) );
+
+        final Specification list = newSpecification( "java.util.List" );
+        list.setClazz( "java.util.List" );
+
+        final Module module = newModule( "Module" );
+        module.setSpecifications( new Specifications() );
+        module.getSpecifications().getSpecification().add( list );
+        module.setImplementations( new Implementations() );
+        module.getImplementations().getImplementation().add( i1 );
+        module.getImplementations().getImplementation().add( i2 );
+
+        final Modules modules = newModules( module );
+
+        for ( int i = 0; i < 2; i++ )
+        {
+            final Module classpathModule = modules.getClasspathModule( "Classpath", classLoader ).get();
+            final List<Specification> specifications = classpathModule.getSpecifications().getSpecification();
+            final List<Implementation> implementations = classpathModule.getImplementations().getImplementation();
+            assertEquals( 2, specifications.size() );
+            assertEquals( "java.util.Locale", specifications.get( 0 ).getIdentifier() );
+            assertEquals( "java.util.ArrayList", specifications.get( 1 ).getIdentifier() );
+            assertEquals( 2, implementations.size() );
+            assertEquals( "default", implementations.get( 0 ).getName() );
+            assertEquals( "init", implementations.get( 1 ).getName() );
+        }
+
+        final Modules unresolved = new Modules();
+        unresolved.getModule().add( new Module() );
+        unresolved.getModule().get( 0 ).setImplementations( new Implementations() );
+        unresolved.getModule().get( 0 ).getImplementations().getImplementation().add( i2 );
+        i2.getDependencies().getDependency().remove( 0 );
+        assertFalse( unresolved.getClasspathModule( "Classpath", classLoader ).isPresent() );
+    }
+
+    @Test
+    public final void GetClasspathModuleLoadsClassesOnce() throws Exception
+    {
+        final java.util.Map<String, Integer> loadedClasses = new java.util.concurrent.ConcurrentHashMap<>();
+        final ClassLoader classLoader = new ClassLoader( this.getClass().getClassLoader() )
+        {
+
+            @Override
+            protected Class<?> loadClass( final String name, final boolean resolve ) throws ClassNotFoundException
+            {
+                loadedClasses.merge( name, 1, Integer::sum );
+                return super.loadClass( name, resolve );
+            }
+
+        };
+
+        final Module module = newModule( "Module" );
+        module.setImplementations( new Implementations() );
+
+        for ( int i = 0; i < 2; i++ )
+        {
+            final Implementation implementation = newImplementation( "I" + i );
+            implementation.setDependencies( new Dependencies() );
+            implementation.getDependencies().getDependency().add( newDependency( "D1", "java.util.Locale" ) );
+            implementation.getDependencies().getDependency().add(
+                newDependency( "D2", "org.jomc.model.test.DoesNotExist" ) );
+
+            module.getImplementations().getImplementation().add( implementation );
+        }
+
+        final Modules modules = newModules( module );
+
+        for ( int i = 0; i < 2; i++ )
+        {
+            assertTrue( modules.getClasspathModule( "Classpath", classLoader ).isPresent() );
+        }
+
+        assertEquals( Integer.valueOf( 1 ), loadedClasses.get( "java.util.Locale" ) );
+        assertEquals( Integer.valueOf( 1 ), loadedClasses.get( "org.jomc.model.test.DoesNotExist" ) );
+
+        modules.clearCaches();
+        assertTrue( modules.getClasspathModule( "Classpath", classLoader ).isPresent() );
+        assertEquals( Integer.valueOf( 2 ), loadedClasses.get( "org.jomc.model.test.DoesNotExist" ) );
+    }
+
+    @Test
+    public final void GetClasspathModuleParallel() throws Exception
+    {
+        final ClassLoader classLoader = this.getClass().getClassLoader();
+        final String[] identifiers =
+        {
+            "java.util.ArrayList", "java.util.Locale", "java.lang.Runtime", "java.util.HashMap",
+            "java.util.Calendar", "java.text.NumberFormat", "java.lang.StringBuilder", "java.util.Random",
+            "org.jomc.model.test.DoesNotExist", "Not a class name"
+        };
+
+        final Module module = newModule( "Module" );
+        module.setImplementations( new Implementations() );
+
+        for ( int i = 0; i < 500; i++ )
+        {
+            final Implementation implementation = newImplementation( "I" + i );
+            implementation.setDependencies( new Dependencies() );
+
+            for ( int j = 0; j < 3; j++ )
+            {
+                implementation.getDependencies().getDependency().add(
+                    newDependency( "D" + j, identifiers[( i * 7 + j * 3 ) % identifiers.length] ) );
+
+            }
+
+            module.getImplementations().getImplementation().add( implementation );
+        }
+
+        final Modules modules = newModules( module );
+        modules.setExecutionPolicy( ExecutionPolicy.SEQUENTIAL );
+        final Module sequential = modules.getClasspathModule( "Classpath", classLoader ).get();
+        modules.setExecutionPolicy( ExecutionPolicy.PARALLEL );
+        final Module parallel = modules.getClasspathModule( "Classpath", classLoader ).get();
+
+        assertEquals( 8, sequential.getSpecifications().getSpecification().size() );
+        assertEquals( sequential.getSpecifications().getSpecification().size(),
+                      parallel.getSpecifications().getSpecification().size() );
+
+        assertEquals( sequential.getImplementations().getImplementation().size(),
+                      parallel.getImplementations().getImplementation().size() );
+
+        for ( int i = 0, s0 = sequential.getSpecifications().getSpecification().size(); i < s0; i++ )
+        {
+            final Specification s = sequential.getSpecifications().getSpecification().get( i );
+            final Specification p = parallel.getSpecifications().getSpecification().get( i );
+            assertEquals( s.getIdentifier(), p.getIdentifier() );
+            assertEquals( s.getClazz(), p.getClazz() );
+        }
+
+        for ( int i = 0, s0 = sequential.getImplementations().getImplementation().size(); i < s0; i++ )
+        {
+            final Implementation s = sequential.getImplementations().getImplementation().get( i );
+            final Implementation p = parallel.getImplementations().getImplementation().get( i );
+            assertEquals( s.getIdentifier(), p.getIdentifier() );
+            assertEquals( s.getName(), p.getName() );
+            assertEquals( s.getClazz(), p.getClazz() );
+        }
+    }
+
+    @Test
+    public final void ImplementedSpecificationsCache() throws Exception
+    {
+        final Specification specification = newSpecification( "Specification" );
+        specification.setClazz( "test.Specification" );
+
+        final Implementation ancestor = newImplementation( "Ancestor" );
+        ancestor.setSpecifications( new Specifications() );
+
+        final SpecificationReference reference = newSpecificationReference( "Specification" );
+        ancestor.getSpecifications().getReference().add( reference );
+
+        final Implementation implementation = newImplementation( "Implementation" );
+        implementation.setImplementations( new Implementations() );
+
+        final ImplementationReference ancestorReference = newImplementationReference( "Ancestor" );
+        implementation.getImplementations().getReference().add( ancestorReference );
+
+        final Module module = newModule( "Module" );
+        module.setSpecifications( new Specifications() );
+        module.getSpecifications().getSpecification().add( specification );
+        module.setImplementations( new Implementations() );
+        module.getImplementations().getImplementation().add( ancestor );
+        module.getImplementations().getImplementation().add( implementation );
+
+        final Modules modules = newModules( module );
+
+        final List<org.jomc.jls.JavaTypeName> javaTypeNames =
+            modules.getImplementedJavaTypeNames( "Implementation" ).get();
+
+        assertEquals( 1, javaTypeNames.size() );
+        assertEquals( "test.Specification", javaTypeNames.get( 0 ).getClassName() );
+        assertSame( javaTypeNames, modules.getImplementedJavaTypeNames( "Implementation" ).get() );
+        assertEquals( 1, modules.getSpecifications( "Implementation" ).get().getSpecification().size() );
+        assertNotSame( modules.getSpecifications( "Implementation" ).get(),
+                       modules.getSpecifications( "Implementation" ).get() );
+
+        // Changes to the modules are detected.
+        specification.setClazz( "test.ChangedSpecification" );
+        assertEquals( "test.ChangedSpecification",
+                      modules.getImplementedJavaTypeNames( "Implementation" ).get().get( 0 ).getClassName() );
+
+        ancestor.getSpecifications().getReference().clear();
+        assertTrue( modules.getImplementedJavaTypeNames( "Implementation" ).get().isEmpty() );
+        assertTrue( modules.getSpecifications( "Implementation" ).get().getSpecification().isEmpty() );
+
+        implementation.getImplementations().getReference().clear();
+        ancestor.getSpecifications().getReference().add( reference );
+        assertTrue( modules.getSpecifications( "Implementation" ).get().getReference().isEmpty() );
+        assertEquals( 1, modules.getSpecifications( "Ancestor" ).get().getReference().size() );
+        assertFalse( modules.getSpecifications( "Unknown" ).isPresent() );
+        assertFalse( modules.getImplementedJavaTypeNames( "Unknown" ).isPresent() );
+    }
+
+    @Test
+    public final void GetImplementationOfObject() throws Exception
+    {
+        final Implementation implementation = newImplementation( "AbstractList" );
+        implementation.setClazz( "java.util.AbstractList" );
+        implementation.setClassDeclaration( true );
+
+        final Module module = newModule( "Module" );
+        module.setImplementations( new Implementations() );
+        module.getImplementations().getImplementation().add( implementation );
+
+        final Modules modules = newModules( module );
+
+        assertSame( implementation, modules.getImplementation( new java.util.ArrayList<Object>() ).get() );
+        assertSame( implementation, modules.getImplementation( new java.util.ArrayList<Object>() ).get() );
+        assertSame( implementation, modules.getImplementation( new java.util.Vector<Object>() ).get() );
+        assertFalse( modules.getImplementation( new Object() ).isPresent() );
+        assertFalse( modules.getImplementation( new java.util.HashMap<Object, Object>() ).isPresent() );
+
+        // Changes to the modules are detected.
+        final Implementation arrayList = newImplementation( "ArrayList" );
+        arrayList.setClazz( "java.util.ArrayList" );
+        arrayList.setClassDeclaration( true );
+        module.getImplementations().getImplementation().add( arrayList );
+
+        assertSame( arrayList, modules.getImplementation( new java.util.ArrayList<Object>() ).get() );
+        assertSame( implementation, modules.getImplementation( new java.util.Vector<Object>() ).get() );
+
+        implementation.setClazz( "java.util.HashMap" );
+        assertFalse( modules.getImplementation( new java.util.Vector<Object>() ).isPresent() );
+        assertSame( implementation, modules.getImplementation( new java.util.HashMap<Object, Object>() ).get() );
+
+        final Implementation vector = newImplementation( "Vector" );
+        vector.setClazz( "java.util.Vector" );
+        vector.setClassDeclaration( true );
+        module.getImplementations().getImplementation().set( 0, vector );
+        assertSame( vector, modules.getImplementation( new java.util.Vector<Object>() ).get() );
+        assertFalse( modules.getImplementation( new java.util.HashMap<Object, Object>() ).isPresent() );
+    }
+
+    @Test
+    public final void CreateObject() throws Exception
+    {
+        final Modules modules = new Modules();
+        final ClassLoader classLoader = this.getClass().getClassLoader();
+
+        final Instance list = newInstance( "java.util.ArrayList", "List", "java.util.List" );
+        assertEquals( java.util.ArrayList.class, modules.createObject( list, classLoader ).getClass() );
+        assertNotSame( modules.createObject( list, classLoader ), modules.createObject( list, classLoader ) );
+
+        list.setClazz( "java.util.LinkedList" );
+        assertEquals( java.util.LinkedList.class, modules.createObject( list, classLoader ).getClass() );
+
+        final Instance runtime = newInstance( "java.lang.Runtime", "Runtime" );
+        assertSame( Runtime.getRuntime(), modules.createObject( runtime, classLoader ) );
+
+        final Instance clazz = newInstance( "java.lang.Object", "Class", "java.util.List" );
+        assertSame( Object.class, modules.createObject( clazz, classLoader ) );
+
+        clazz.setName( "Unsupported" );
+
+        try
+        {
+            modules.createObject( clazz, classLoader );
+            fail( "Expected 'InstantiationException' not thrown." );
+        }
+        catch ( final InstantiationException e )
+        {
+            assertNotNull( e.getMessage() );
+            System.out.println( e.toString() );
+        }
+    }
+
+
+    @Test
+    public final void CreateObjectBenchmark() throws Exception
+    {
+        assumeTrue( Boolean.getBoolean( "org.jomc.model.test.benchmark" ) );
+
+        final Modules modules = new Modules();
+        final ClassLoader classLoader = this.getClass().getClassLoader();
+        final Instance instance = newInstance( "java.util.ArrayList", "List", "java.util.List" );
+        final JavaClassCache classCache = new JavaClassCache();
+        long reflectiveNanos = 0L;
+        long compiledNanos = 0L;
+
+        for ( int i = 0; i < CREATE_OBJECT_ITERATIONS; i++ )
+        {
+            final boolean measure = i >= CREATE_OBJECT_ITERATIONS / 2;
+
+            long t0 = System.nanoTime();
+            final Class<?> javaClass = instance.getJavaTypeName().get().getClass( classLoader, true );
+            assertNotNull( javaClass.getConstructor() );
+            assertTrue( instance.isJavaClassAssignable( classLoader, classCache ) );
+            assertNotNull( javaClass.newInstance() );
+            reflectiveNanos += measure ? System.nanoTime() - t0 : 0L;
+
+            t0 = System.nanoTime();
+            assertNotNull( modules.createObject( instance, classLoader ) );
+            compiledNanos += measure ? System.nanoTime() - t0 : 0L;
+        }
+
+        final int measured = CREATE_OBJECT_ITERATIONS - CREATE_OBJECT_ITERATIONS / 2;
+        System.out.println( "Modules.createObject benchmark (" + measured + " objects)" );
+        System.out.println( "  Reflective: " + reflectiveNanos / measured + " ns/object" );
+        System.out.println( "  Compiled:   " + compiledNanos / measured + " ns/object" );
+    }
+
+}
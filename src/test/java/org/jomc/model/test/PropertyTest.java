@@ -36,6 +36,8 @@ import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 /**
  * Test cases for class {@code org.jomc.model.Property}.
@@ -112,6 +114,22 @@ public class PropertyTest
 
     }
 
+    public enum ConstantBodyJavaValue
+    {
+
+        CONSTANT
+        {
+
+            @Override
+            public String toString()
+            {
+                return "Constant";
+            }
+
+        }
+
+    }
+
     /**
      * Creates a new {@code PropertyTest} instance.
      */
@@ -196,6 +214,45 @@ public class PropertyTest
         ModelObjectTest.assertPropertyException( ()  -> p.getJavaValue( this.getClass().getClassLoader() ) );
     }
 
+    @Test
+    public final void GetJavaValueCaching() throws Exception
+    {
+        final ClassLoader classLoader = this.getClass().getClassLoader();
+        final Property p = new Property();
+        p.setType( "java.lang.Integer" );
+        p.setValue( "100000" );
+
+        final Object integer = p.getJavaValue( classLoader ).get();
+        assertEquals( 100000, integer );
+        assertSame( integer, p.getJavaValue( classLoader ).get() );
+        assertEquals( 100000, p.getJavaValue( null ).get() );
+
+        p.setValue( "200000" );
+        assertEquals( 200000, p.getJavaValue( classLoader ).get() );
+
+        p.setType( "java.lang.Long" );
+        assertEquals( 200000L, p.getJavaValue( classLoader ).get() );
+
+        p.setType( StringBuilder.class.getName() );
+        p.setValue( "TEST" );
+        final Object builder = p.getJavaValue( classLoader ).get();
+        assertEquals( "TEST", builder.toString() );
+        assertNotSame( builder, p.getJavaValue( classLoader ).get() );
+        assertEquals( "TEST", p.getJavaValue( classLoader ).get().toString() );
+
+        p.setType( "char" );
+        p.setValue( "TEST" );
+        ModelObjectTest.assertPropertyException( ()  -> p.getJavaValue( classLoader ) );
+
+        p.setValue( "T" );
+        assertEquals( 'T', p.getJavaValue( classLoader ).get() );
+
+        p.setType( ConstantBodyJavaValue.class.getName() );
+        p.setValue( "CONSTANT" );
+        assertSame( ConstantBodyJavaValue.CONSTANT, p.getJavaValue( classLoader ).get() );
+        assertSame( ConstantBodyJavaValue.CONSTANT, p.getJavaValue( classLoader ).get() );
+    }
+
     @Test
     public final void JavaConstantName() throws Exception
     {
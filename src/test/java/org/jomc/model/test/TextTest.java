@@ -30,9 +30,13 @@
  */
 package org.jomc.model.test;
 
+import java.util.Locale;
 import org.jomc.model.Text;
+import org.jomc.model.Texts;
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -68,4 +72,78 @@ public class TextTest
 
     }
 
+    @Test
+    public final void TextsGetText() throws Exception
+    {
+        final Texts texts = new Texts();
+        texts.setDefaultLanguage( "en" );
+        assertNull( texts.getText( "en" ) );
+
+        final Text en = newText( "EN" );
+        final Text de = newText( "de" );
+        texts.getText().add( en );
+        texts.getText().add( de );
+
+        assertSame( en, texts.getText( "en" ) );
+        assertSame( de, texts.getText( "DE" ) );
+        assertSame( de, texts.getText( Locale.GERMAN ) );
+        assertSame( en, texts.getText( "fr" ) );
+
+        de.setLanguage( "fr" );
+        assertSame( de, texts.getText( "fr" ) );
+        assertSame( en, texts.getText( "de" ) );
+
+        final Text it = newText( "it" );
+        texts.getText().set( 0, it );
+        assertSame( it, texts.getText( "it" ) );
+        assertNull( texts.getText( "en" ) );
+
+        texts.setDefaultLanguage( "it" );
+        assertSame( it, texts.getText( "en" ) );
+
+        ModelObjectTest.assertNullPointerException( ()  -> texts.getText( (String) null ) );
+        ModelObjectTest.assertNullPointerException( ()  -> texts.getText( (Locale) null ) );
+    }
+
+    @Test
+    public final void TextsGetTextDefaultLanguage() throws Exception
+    {
+        final Texts texts = new Texts();
+        final Text en = newText( "en" );
+        texts.getText().add( en );
+
+        for ( int i = 0; i < 100; i++ )
+        {
+            texts.getText().add( newText( "x" + i ) );
+        }
+
+        assertNull( texts.getText( "fr" ) );
+
+        texts.setDefaultLanguage( "EN" );
+        assertSame( en, texts.getText( "fr" ) );
+        assertSame( en, texts.getText( Locale.FRENCH ) );
+        assertSame( texts.getText().get( 100 ), texts.getText( "X99" ) );
+
+        texts.setDefaultLanguage( "x50" );
+        assertSame( texts.getText().get( 51 ), texts.getText( "fr" ) );
+
+        texts.setDefaultLanguage( "de" );
+        assertNull( texts.getText( "fr" ) );
+
+        final Text de = newText( "de" );
+        texts.getText().add( de );
+        assertSame( de, texts.getText( "fr" ) );
+
+        texts.getText().remove( de );
+        assertNull( texts.getText( "fr" ) );
+    }
+
+    private static Text newText( final String language )
+    {
+        final Text text = new Text();
+        text.setLanguage( language );
+        text.setValue( language );
+        return text;
+    }
+
 }